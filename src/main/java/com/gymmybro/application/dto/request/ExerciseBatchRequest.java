@@ -0,0 +1,25 @@
+package com.gymmybro.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for looking up several exercises by ExerciseDB ID.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseBatchRequest {
+
+    @NotEmpty(message = "At least one exercise ID is required")
+    @Size(max = 200, message = "At most 200 exercise IDs can be requested at once")
+    private List<@NotBlank(message = "Exercise ID must not be blank") String> externalIds;
+}
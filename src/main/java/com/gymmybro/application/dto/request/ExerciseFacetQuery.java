@@ -0,0 +1,32 @@
+package com.gymmybro.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Multi-facet exercise filter.
+ * Values within one facet are OR'ed; facets are combined with AND
+ * (or OR when {@code matchAll} is false).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseFacetQuery {
+
+    private List<String> bodyParts;
+
+    private List<String> targets;
+
+    private List<String> equipment;
+
+    /**
+     * Whether an exercise must match every given facet (AND) or any of them (OR).
+     */
+    @Builder.Default
+    private boolean matchAll = true;
+}
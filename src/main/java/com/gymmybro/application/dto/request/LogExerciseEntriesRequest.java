@@ -0,0 +1,26 @@
+package com.gymmybro.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for logging several sets of an ongoing workout at once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogExerciseEntriesRequest {
+
+    @NotEmpty(message = "At least one entry is required")
+    @Size(max = 100, message = "At most 100 entries can be logged at once")
+    private List<@Valid @NotNull(message = "Entry must not be null") LogExerciseEntryRequest> entries;
+}
@@ -56,4 +56,10 @@ public class LogExerciseEntryRequest {
      * Optional notes for this set
      */
     private String notes;
+
+    /**
+     * Optional key generated by the client for this set; retrying with the same
+     * key returns the set already logged instead of logging it twice
+     */
+    private UUID clientEntryId;
 }
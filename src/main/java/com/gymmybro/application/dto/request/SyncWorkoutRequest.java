@@ -0,0 +1,69 @@
+package com.gymmybro.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for uploading a whole workout session recorded offline.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncWorkoutRequest {
+
+    @NotNull(message = "Workout day ID is required")
+    private UUID workoutDayId;
+
+    /**
+     * Optional date override (defaults to the date the session started in {@code timeZone})
+     */
+    private LocalDate workoutDate;
+
+    /**
+     * Client's time zone (e.g. "Europe/Berlin"), used to date the session when
+     * no workout date is given; UTC if omitted
+     */
+    private ZoneId timeZone;
+
+    @NotNull(message = "Start time is required")
+    private Instant startedAt;
+
+    @NotNull(message = "Completion time is required")
+    private Instant completedAt;
+
+    /**
+     * Overall notes for the workout session
+     */
+    private String notes;
+
+    /**
+     * Rating for the workout (1-10)
+     */
+    @Min(value = 1, message = "Rating must be between 1 and 10")
+    @Max(value = 10, message = "Rating must be between 1 and 10")
+    private Integer rating;
+
+    /**
+     * Sets performed during the session; each should carry a client entry ID so
+     * a repeated sync does not log it twice
+     */
+    @Builder.Default
+    @NotNull(message = "Entries are required")
+    @Size(max = 500, message = "At most 500 entries can be synced at once")
+    private List<@Valid @NotNull(message = "Entry must not be null") LogExerciseEntryRequest> entries = new ArrayList<>();
+}
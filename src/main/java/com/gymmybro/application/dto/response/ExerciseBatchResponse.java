@@ -0,0 +1,26 @@
+package com.gymmybro.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch exercise lookup.
+ * Exercises are returned in request order, without duplicates.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseBatchResponse {
+
+    private List<ExerciseResponse> content;
+
+    /**
+     * Requested IDs that do not match any exercise.
+     */
+    private List<String> missing;
+}
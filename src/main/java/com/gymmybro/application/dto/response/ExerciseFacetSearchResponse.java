@@ -0,0 +1,30 @@
+package com.gymmybro.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for a multi-facet exercise search.
+ * Facet counts are computed over the full match set, not just the returned page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseFacetSearchResponse {
+
+    private List<ExerciseResponse> content;
+    private int limit;
+    private int offset;
+    private long totalElements;
+
+    /**
+     * Facet name ("bodyParts", "targets", "equipment") to value to match count.
+     */
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -23,6 +23,7 @@ public class ExerciseResponse {
     private String bodyPart;
     private String equipment;
     private String gifUrl;
+    private String mediaUrl; // gifUrl served through the local media cache
     private List<String> instructions;
     private List<String> secondaryMuscles;
 
@@ -37,8 +38,16 @@ public class ExerciseResponse {
                 .bodyPart(apiResponse.getBodyPart())
                 .equipment(apiResponse.getEquipment())
                 .gifUrl(apiResponse.getGifUrl())
+                .mediaUrl(apiResponse.getGifUrl() != null ? mediaPath(apiResponse.getId()) : null)
                 .instructions(apiResponse.getInstructions())
                 .secondaryMuscles(apiResponse.getSecondaryMuscles())
                 .build();
     }
+
+    /**
+     * Path of the media proxy endpoint for an exercise.
+     */
+    public static String mediaPath(String externalId) {
+        return "/api/v1/exercises/" + externalId + "/media";
+    }
 }
@@ -0,0 +1,23 @@
+package com.gymmybro.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A suggested replacement for an exercise.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseSubstituteResponse {
+
+    private ExerciseResponse exercise;
+
+    /**
+     * Similarity to the original exercise, from 0 (nothing shared) to 1 (same muscles and equipment).
+     */
+    private double similarity;
+}
@@ -0,0 +1,74 @@
+package com.gymmybro.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO summarizing one sync of the local exercise catalog with ExerciseDB.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseSyncResponse {
+
+    /**
+     * Exercises received from ExerciseDB
+     */
+    private int fetched;
+
+    /**
+     * New exercises stored
+     */
+    private int inserted;
+
+    /**
+     * Stored exercises whose content changed
+     */
+    private int updated;
+
+    /**
+     * Stored exercises skipped because their content hash matched
+     */
+    private int unchanged;
+
+    /**
+     * Stored exercises no longer returned by ExerciseDB
+     */
+    private int removed;
+
+    /**
+     * Pages merged into the stored catalog
+     */
+    private int pages;
+
+    /**
+     * Page fetches that were retried after a failure
+     */
+    private int retries;
+
+    /**
+     * Pages that still failed after all retries
+     */
+    private int failedPages;
+
+    /**
+     * Whether every page was read (removals are only applied after a complete read)
+     */
+    private boolean complete;
+
+    /**
+     * Version of the in-memory catalog serving reads after this sync
+     */
+    private long catalogVersion;
+
+    private long durationMs;
+
+    private double exercisesPerSecond;
+
+    public boolean hasChanges() {
+        return inserted > 0 || updated > 0 || removed > 0;
+    }
+}
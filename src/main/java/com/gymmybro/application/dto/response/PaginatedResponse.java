@@ -1,5 +1,6 @@
 package com.gymmybro.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,4 +24,10 @@ public class PaginatedResponse<T> {
     private int totalPages;
     private boolean first;
     private boolean last;
+
+    /**
+     * Opaque token for the next page, for listings that support cursors.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
@@ -31,6 +31,7 @@ public class WorkoutExerciseResponse {
     private String exerciseExternalId;
     private String exerciseName;
     private String exerciseGifUrl;
+    private String exerciseMediaUrl;
     private String targetMuscle;
     private String equipment;
 
@@ -52,6 +53,8 @@ public class WorkoutExerciseResponse {
                 .exerciseExternalId(workoutExercise.getExerciseExternalId())
                 .exerciseName(workoutExercise.getExerciseName())
                 .exerciseGifUrl(workoutExercise.getExerciseGifUrl())
+                .exerciseMediaUrl(mediaUrl(workoutExercise.getExerciseExternalId(),
+                        workoutExercise.getExerciseGifUrl()))
                 .build();
     }
 
@@ -73,17 +76,27 @@ public class WorkoutExerciseResponse {
                 .notes(workoutExercise.getNotes())
                 .exerciseExternalId(workoutExercise.getExerciseExternalId());
 
+        String gifUrl;
         if (apiResponse != null) {
+            gifUrl = apiResponse.getGifUrl();
             builder.exerciseName(apiResponse.getName())
-                    .exerciseGifUrl(apiResponse.getGifUrl())
                     .targetMuscle(apiResponse.getTarget())
                     .equipment(apiResponse.getEquipment());
         } else {
             // Fall back to cached values
-            builder.exerciseName(workoutExercise.getExerciseName())
-                    .exerciseGifUrl(workoutExercise.getExerciseGifUrl());
+            gifUrl = workoutExercise.getExerciseGifUrl();
+            builder.exerciseName(workoutExercise.getExerciseName());
         }
 
-        return builder.build();
+        return builder.exerciseGifUrl(gifUrl)
+                .exerciseMediaUrl(mediaUrl(workoutExercise.getExerciseExternalId(), gifUrl))
+                .build();
+    }
+
+    /**
+     * Local media path, only when there is a GIF to serve (as in {@link ExerciseResponse}).
+     */
+    private static String mediaUrl(String externalId, String gifUrl) {
+        return externalId != null && gifUrl != null ? ExerciseResponse.mediaPath(externalId) : null;
     }
 }
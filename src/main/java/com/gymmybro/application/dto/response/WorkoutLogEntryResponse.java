@@ -1,6 +1,7 @@
 package com.gymmybro.application.dto.response;
 
 import com.gymmybro.domain.workout.WorkoutLogEntry;
+import com.gymmybro.domain.workout.WorkoutLogEntryTarget;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,6 +26,7 @@ public class WorkoutLogEntryResponse {
     private Integer rpe;
     private boolean isCompleted;
     private String notes;
+    private UUID clientEntryId;
 
     // Exercise info
     private UUID workoutExerciseId;
@@ -35,15 +37,7 @@ public class WorkoutLogEntryResponse {
      * Create response from entity.
      */
     public static WorkoutLogEntryResponse fromEntity(WorkoutLogEntry entry) {
-        WorkoutLogEntryResponseBuilder builder = WorkoutLogEntryResponse.builder()
-                .id(entry.getId())
-                .setNumber(entry.getSetNumber())
-                .actualReps(entry.getActualReps())
-                .actualWeight(entry.getActualWeight())
-                .actualDurationSeconds(entry.getActualDurationSeconds())
-                .rpe(entry.getRpe())
-                .isCompleted(entry.isCompleted())
-                .notes(entry.getNotes());
+        WorkoutLogEntryResponseBuilder builder = entryFields(entry);
 
         if (entry.getWorkoutExercise() != null) {
             builder.workoutExerciseId(entry.getWorkoutExercise().getId())
@@ -53,4 +47,29 @@ public class WorkoutLogEntryResponse {
 
         return builder.build();
     }
+
+    /**
+     * Create response from a freshly appended entry, taking the exercise info
+     * from the append target so the workout exercise reference stays uninitialized.
+     */
+    public static WorkoutLogEntryResponse fromEntity(WorkoutLogEntry entry, WorkoutLogEntryTarget target) {
+        return entryFields(entry)
+                .workoutExerciseId(target.workoutExerciseId())
+                .exerciseExternalId(target.exerciseExternalId())
+                .exerciseName(target.exerciseName())
+                .build();
+    }
+
+    private static WorkoutLogEntryResponseBuilder entryFields(WorkoutLogEntry entry) {
+        return WorkoutLogEntryResponse.builder()
+                .id(entry.getId())
+                .setNumber(entry.getSetNumber())
+                .actualReps(entry.getActualReps())
+                .actualWeight(entry.getActualWeight())
+                .actualDurationSeconds(entry.getActualDurationSeconds())
+                .rpe(entry.getRpe())
+                .isCompleted(entry.isCompleted())
+                .notes(entry.getNotes())
+                .clientEntryId(entry.getClientEntryId());
+    }
 }
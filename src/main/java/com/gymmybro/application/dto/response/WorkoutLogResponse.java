@@ -1,6 +1,7 @@
 package com.gymmybro.application.dto.response;
 
 import com.gymmybro.domain.workout.WorkoutLog;
+import com.gymmybro.domain.workout.WorkoutLogEntry;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -46,6 +47,13 @@ public class WorkoutLogResponse {
      * Create response from entity.
      */
     public static WorkoutLogResponse fromEntity(WorkoutLog log) {
+        return fromEntity(log, log.getEntries());
+    }
+
+    /**
+     * Create response from entity with entries loaded separately.
+     */
+    public static WorkoutLogResponse fromEntity(WorkoutLog log, List<WorkoutLogEntry> entries) {
         WorkoutLogResponseBuilder builder = WorkoutLogResponse.builder()
                 .id(log.getId())
                 .workoutDate(log.getWorkoutDate())
@@ -67,8 +75,8 @@ public class WorkoutLogResponse {
             }
         }
 
-        if (log.getEntries() != null) {
-            builder.entries(log.getEntries().stream()
+        if (entries != null) {
+            builder.entries(entries.stream()
                     .map(WorkoutLogEntryResponse::fromEntity)
                     .collect(Collectors.toList()));
         }
@@ -0,0 +1,72 @@
+package com.gymmybro.application.service;
+
+import com.gymmybro.application.dto.request.ExerciseFacetQuery;
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Interface for queries that need a locally indexed exercise catalog
+ * and cannot be answered by proxying a single ExerciseDB call.
+ */
+public interface ExerciseCatalogIndex {
+
+    /**
+     * Filter the catalog by any combination of body parts, targets and equipment.
+     *
+     * @param query Facet values to match
+     * @return All matching exercises plus per-value facet counts over the matches
+     */
+    FacetResult searchByFacets(ExerciseFacetQuery query);
+
+    /**
+     * The whole catalog, or the name matches for {@code name}, in a stable order.
+     *
+     * @param name Search query; null or blank lists the whole catalog
+     * @return The listing, or empty while no catalog snapshot is loaded
+     */
+    Optional<Listing> list(String name);
+
+    /**
+     * Exercises most similar to the given one by target muscles, secondary
+     * muscles, body parts and equipment.
+     *
+     * @param externalId        Exercise to find substitutes for
+     * @param limit             Maximum number of substitutes
+     * @param excludedEquipment Equipment the substitutes must not use
+     * @return Substitutes, most similar first; empty if the exercise is not in the catalog
+     */
+    Optional<List<Substitute>> findSubstitutes(String externalId, int limit, Collection<String> excludedEquipment);
+
+    @Getter
+    @AllArgsConstructor
+    class FacetResult {
+        private final List<ExerciseDbApiResponse> matches;
+        private final Map<String, Map<String, Integer>> facetCounts;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    class Substitute {
+        private final ExerciseDbApiResponse exercise;
+        /**
+         * Weighted Jaccard similarity in [0, 1]
+         */
+        private final double similarity;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    class Listing {
+        /**
+         * Snapshot version the listing was taken from
+         */
+        private final long version;
+        private final List<ExerciseDbApiResponse> exercises;
+    }
+}
@@ -0,0 +1,85 @@
+package com.gymmybro.application.service;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Opaque pagination cursor over a catalog listing.
+ * Records where the previous page ended (position and last exercise ID) in
+ * the snapshot it was taken from, plus a fingerprint of the query. If the
+ * catalog was refreshed in between, paging resumes after the last exercise
+ * seen instead of at a position that may have shifted.
+ */
+record ExerciseCursor(long version, int position, String lastId, String query) {
+
+    private static final String SEPARATOR = "\u001f";
+    private static final int FINGERPRINT_BYTES = 12;
+
+    static ExerciseCursor after(ExerciseCatalogIndex.Listing listing, int position, String name) {
+        return new ExerciseCursor(listing.getVersion(), position,
+                listing.getExercises().get(position - 1).getId(), fingerprint(name));
+    }
+
+    static ExerciseCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new BadRequestException("Invalid pagination cursor");
+            }
+            return new ExerciseCursor(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), parts[2], parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+
+    String encode() {
+        String raw = version + SEPARATOR + position + SEPARATOR + lastId + SEPARATOR + query;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Index of the first exercise of the page this cursor points to.
+     */
+    int resolve(ExerciseCatalogIndex.Listing listing, String name) {
+        if (!query.equals(fingerprint(name))) {
+            throw new BadRequestException("Pagination cursor belongs to a different query");
+        }
+
+        List<ExerciseDbApiResponse> exercises = listing.getExercises();
+        if (version == listing.getVersion() && position > 0 && position <= exercises.size()
+                && Objects.equals(exercises.get(position - 1).getId(), lastId)) {
+            return position;
+        }
+        for (int i = 0; i < exercises.size(); i++) {
+            if (Objects.equals(exercises.get(i).getId(), lastId)) {
+                return i + 1;
+            }
+        }
+        throw new BadRequestException("Pagination cursor has expired; restart from the first page");
+    }
+
+    /**
+     * SHA-256 of the normalized query, truncated to 96 bits: short enough for
+     * the cursor, long enough that two queries do not share a fingerprint.
+     */
+    private static String fingerprint(String name) {
+        String normalized = name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, FINGERPRINT_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.gymmybro.application.service;
 
 import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for exercise data provider operations.
@@ -26,4 +30,23 @@ public interface ExerciseProvider {
     List<String> getEquipment();
 
     ExerciseDbApiResponse getExerciseById(String externalId);
+
+    /**
+     * Resolve several exercises at once.
+     * The default implementation looks each ID up in turn; providers that can
+     * do better (local data, parallel upstream calls) override it.
+     *
+     * @param externalIds ExerciseDB IDs; duplicates are looked up once
+     * @return Found exercises keyed by ID, in request order; unknown IDs are absent
+     */
+    default Map<String, ExerciseDbApiResponse> getExercisesByIds(Collection<String> externalIds) {
+        Map<String, ExerciseDbApiResponse> found = new LinkedHashMap<>();
+        for (String externalId : new LinkedHashSet<>(externalIds)) {
+            ExerciseDbApiResponse exercise = getExerciseById(externalId);
+            if (exercise != null) {
+                found.put(externalId, exercise);
+            }
+        }
+        return found;
+    }
 }
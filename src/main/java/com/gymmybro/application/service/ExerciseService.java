@@ -1,60 +1,103 @@
 package com.gymmybro.application.service;
 
+import com.gymmybro.application.dto.request.ExerciseFacetQuery;
+import com.gymmybro.application.dto.response.ExerciseBatchResponse;
 import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.dto.response.ExerciseFacetSearchResponse;
 import com.gymmybro.application.dto.response.ExerciseResponse;
+import com.gymmybro.application.dto.response.ExerciseSubstituteResponse;
+import com.gymmybro.application.dto.response.ExerciseSyncResponse;
 import com.gymmybro.application.dto.response.PaginatedResponse;
+import com.gymmybro.exception.ConflictException;
 import com.gymmybro.exception.ResourceNotFoundException;
+import com.gymmybro.exception.ServiceUnavailableException;
+import com.gymmybro.infrastructure.catalog.ExerciseCatalog;
+import com.gymmybro.infrastructure.catalog.ExerciseMetadataDocuments;
+import com.gymmybro.infrastructure.catalog.ExerciseMetadataDocuments.Document;
+import com.gymmybro.infrastructure.catalog.ExerciseMetadataDocuments.MetadataList;
+import com.gymmybro.infrastructure.media.ExerciseMediaCache;
+import com.gymmybro.infrastructure.media.ExerciseMediaFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
 /**
  * Service for exercise catalog operations.
- * Proxies all requests directly to ExerciseDB API.
+ * Reads are answered by the configured ReactiveExerciseProvider (the in-process
+ * catalog, falling back to ExerciseDB while it loads) and are returned as
+ * Monos so request threads are never held while ExerciseDB responds.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ExerciseService {
 
-    private final ExerciseProvider exerciseProvider;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SUBSTITUTES = 50;
+
+    private final ReactiveExerciseProvider exerciseProvider;
+    private final ExerciseCatalogIndex exerciseCatalogIndex;
+    private final ExerciseCatalog exerciseCatalog;
+    private final ExerciseMediaCache exerciseMediaCache;
+    private final ExerciseMetadataDocuments metadataDocuments;
 
     /**
-     * Search exercises by name.
+     * Search exercises by name, or list the catalog when no name is given.
+     * Served from the local catalog with exact totals and a cursor for the
+     * next page; while the catalog is loading, ExerciseDB is queried directly
+     * and only the current page is known.
      *
      * @param name   Search query
      * @param limit  Number of results to return
-     * @param offset Starting position
+     * @param offset Starting position (ignored when a cursor is given)
+     * @param cursor Cursor from a previous page, or null
      * @return Paginated exercise responses
      */
-    public PaginatedResponse<ExerciseResponse> searchExercises(
+    public Mono<PaginatedResponse<ExerciseResponse>> searchExercises(
             String name,
             int limit,
-            int offset) {
+            int offset,
+            String cursor) {
 
-        List<ExerciseDbApiResponse> apiResults;
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
 
-        if (name != null && !name.isBlank()) {
-            apiResults = exerciseProvider.searchByName(name);
-        } else {
-            apiResults = exerciseProvider.fetchAllExercises(limit, offset);
-        }
+        return Mono.defer(() -> {
+            Optional<ExerciseCatalogIndex.Listing> listing = exerciseCatalogIndex.list(name);
+            if (listing.isPresent()) {
+                return Mono.just(paginate(listing.get(), name, pageSize, offset, cursor));
+            }
+            if (cursor != null) {
+                return Mono.error(new ServiceUnavailableException(
+                        "Exercise catalog is not loaded yet; cursors are unavailable"));
+            }
 
-        List<ExerciseResponse> content = apiResults.stream()
-                .map(ExerciseResponse::fromApiResponse)
-                .toList();
+            Flux<ExerciseDbApiResponse> apiResults;
 
-        return PaginatedResponse.<ExerciseResponse>builder()
-                .content(content)
-                .page(offset / limit)
-                .size(limit)
-                .totalElements(content.size())
-                .totalPages(1)
-                .first(offset == 0)
-                .last(true)
-                .build();
+            if (name != null && !name.isBlank()) {
+                apiResults = exerciseProvider.searchByName(name);
+            } else {
+                apiResults = exerciseProvider.fetchAllExercises(pageSize, offset);
+            }
+
+            return toResponses(apiResults)
+                    .map(content -> PaginatedResponse.<ExerciseResponse>builder()
+                            .content(content)
+                            .page(offset / pageSize)
+                            .size(pageSize)
+                            .totalElements(content.size())
+                            .totalPages(1)
+                            .first(offset == 0)
+                            .last(true)
+                            .build());
+        });
     }
 
     /**
@@ -64,38 +107,59 @@ public class ExerciseService {
      * @param offset Starting position
      * @return Paginated exercise responses
      */
-    public PaginatedResponse<ExerciseResponse> getAllExercises(int limit, int offset) {
-        List<ExerciseDbApiResponse> apiResults = exerciseProvider.fetchAllExercises(limit, offset);
-
-        List<ExerciseResponse> content = apiResults.stream()
-                .map(ExerciseResponse::fromApiResponse)
-                .toList();
-
-        return PaginatedResponse.<ExerciseResponse>builder()
-                .content(content)
-                .page(offset / limit)
-                .size(limit)
-                .totalElements(content.size())
-                .totalPages(1)
-                .first(offset == 0)
-                .last(content.size() < limit)
-                .build();
+    public Mono<PaginatedResponse<ExerciseResponse>> getAllExercises(int limit, int offset) {
+        return searchExercises(null, limit, offset, null);
     }
 
     /**
      * Get exercise by ExerciseDB external ID.
      *
      * @param externalId The ExerciseDB ID (e.g., "0001")
-     * @return Exercise response
+     * @return Exercise response, or a ResourceNotFoundException error
      */
-    public ExerciseResponse getExerciseById(String externalId) {
-        ExerciseDbApiResponse apiResponse = exerciseProvider.getExerciseById(externalId);
+    public Mono<ExerciseResponse> getExerciseById(String externalId) {
+        return exerciseProvider.getExerciseById(externalId)
+                .map(ExerciseResponse::fromApiResponse)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Exercise", "externalId", externalId)));
+    }
 
-        if (apiResponse == null) {
-            throw new ResourceNotFoundException("Exercise", "externalId", externalId);
-        }
+    /**
+     * Get the locally cached GIF or image of an exercise, downloading it on first use.
+     *
+     * @param externalId The ExerciseDB ID
+     * @return The cached file
+     */
+    public Mono<ExerciseMediaFile> getExerciseMedia(String externalId) {
+        return exerciseProvider.getExerciseById(externalId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Exercise", "externalId", externalId)))
+                .flatMap(exercise -> exercise.getImageUrl() != null && !exercise.getImageUrl().isBlank()
+                        ? exerciseMediaCache.get(exercise.getImageUrl())
+                        : Mono.error(new ResourceNotFoundException("Exercise media", "externalId", externalId)));
+    }
 
-        return ExerciseResponse.fromApiResponse(apiResponse);
+    /**
+     * Get several exercises by ExerciseDB external ID in one call.
+     * Exercises held locally are returned directly; the rest are fetched
+     * from ExerciseDB concurrently.
+     *
+     * @param externalIds The ExerciseDB IDs; duplicates are ignored
+     * @return Found exercises in request order plus the IDs that were not found
+     */
+    public Mono<ExerciseBatchResponse> getExercisesByIds(Collection<String> externalIds) {
+        List<String> requested = externalIds.stream()
+                .map(String::trim)
+                .distinct()
+                .toList();
+
+        return exerciseProvider.getExercisesByIds(requested)
+                .map(found -> ExerciseBatchResponse.builder()
+                        .content(found.values().stream()
+                                .map(ExerciseResponse::fromApiResponse)
+                                .toList())
+                        .missing(requested.stream()
+                                .filter(id -> !found.containsKey(id))
+                                .toList())
+                        .build());
     }
 
     /**
@@ -104,11 +168,8 @@ public class ExerciseService {
      * @param bodyPart Body part to filter by (e.g., "chest", "back")
      * @return List of exercise responses
      */
-    public List<ExerciseResponse> filterByBodyPart(String bodyPart) {
-        List<ExerciseDbApiResponse> apiResults = exerciseProvider.filterByBodyPart(bodyPart);
-        return apiResults.stream()
-                .map(ExerciseResponse::fromApiResponse)
-                .toList();
+    public Mono<List<ExerciseResponse>> filterByBodyPart(String bodyPart) {
+        return toResponses(exerciseProvider.filterByBodyPart(bodyPart));
     }
 
     /**
@@ -117,11 +178,8 @@ public class ExerciseService {
      * @param target Target muscle to filter by (e.g., "biceps", "pectorals")
      * @return List of exercise responses
      */
-    public List<ExerciseResponse> filterByTarget(String target) {
-        List<ExerciseDbApiResponse> apiResults = exerciseProvider.filterByTarget(target);
-        return apiResults.stream()
-                .map(ExerciseResponse::fromApiResponse)
-                .toList();
+    public Mono<List<ExerciseResponse>> filterByTarget(String target) {
+        return toResponses(exerciseProvider.filterByTarget(target));
     }
 
     /**
@@ -130,37 +188,143 @@ public class ExerciseService {
      * @param equipment Equipment to filter by (e.g., "barbell", "dumbbell")
      * @return List of exercise responses
      */
-    public List<ExerciseResponse> filterByEquipment(String equipment) {
-        List<ExerciseDbApiResponse> apiResults = exerciseProvider.filterByEquipment(equipment);
-        return apiResults.stream()
-                .map(ExerciseResponse::fromApiResponse)
-                .toList();
+    public Mono<List<ExerciseResponse>> filterByEquipment(String equipment) {
+        return toResponses(exerciseProvider.filterByEquipment(equipment));
     }
 
     /**
-     * Get all body parts from ExerciseDB.
+     * Filter exercises by any combination of body parts, targets and equipment.
+     * Answered from the in-memory index, so it completes without I/O.
      *
-     * @return List of body parts
+     * @param query  Facet values to match
+     * @param limit  Number of results to return
+     * @param offset Starting position
+     * @return Matching exercises with facet counts over the full match set
      */
-    public List<String> getAllBodyParts() {
-        return exerciseProvider.getBodyParts();
+    public Mono<ExerciseFacetSearchResponse> filterByFacets(ExerciseFacetQuery query, int limit, int offset) {
+        return Mono.fromSupplier(() -> {
+            ExerciseCatalogIndex.FacetResult result = exerciseCatalogIndex.searchByFacets(query);
+            List<ExerciseDbApiResponse> matches = result.getMatches();
+
+            List<ExerciseResponse> content = matches.stream()
+                    .skip(Math.max(offset, 0))
+                    .limit(Math.max(limit, 0))
+                    .map(ExerciseResponse::fromApiResponse)
+                    .toList();
+
+            return ExerciseFacetSearchResponse.builder()
+                    .content(content)
+                    .limit(limit)
+                    .offset(offset)
+                    .totalElements(matches.size())
+                    .facets(result.getFacetCounts())
+                    .build();
+        });
     }
 
     /**
-     * Get all target muscles from ExerciseDB.
+     * Sync the stored exercise catalog with ExerciseDB and reload it.
+     * Runs on a worker pool since it performs blocking HTTP and JDBC calls.
      *
-     * @return List of target muscles
+     * @return Counts of inserted, updated, unchanged and removed exercises
      */
-    public List<String> getAllTargetMuscles() {
-        return exerciseProvider.getTargets();
+    public Mono<ExerciseSyncResponse> syncCatalog() {
+        return Mono.fromCallable(() -> exerciseCatalog.refresh()
+                        .orElseThrow(() -> new ConflictException("Exercise catalog sync already in progress")))
+                .subscribeOn(Schedulers.boundedElastic());
     }
 
     /**
-     * Get all equipment types from ExerciseDB.
+     * Suggest substitutes for an exercise, e.g. when a gym lacks its equipment.
+     * Ranked by similarity of target muscles, secondary muscles, body parts
+     * and equipment; answered from the in-memory index without I/O.
      *
-     * @return List of equipment types
+     * @param externalId        Exercise to replace
+     * @param limit             Maximum number of substitutes
+     * @param excludedEquipment Equipment the substitutes must not use
+     * @return Substitutes, most similar first
+     */
+    public Mono<List<ExerciseSubstituteResponse>> getSubstitutes(String externalId, int limit,
+            List<String> excludedEquipment) {
+        return Mono.fromSupplier(() -> exerciseCatalogIndex
+                .findSubstitutes(externalId, Math.min(Math.max(limit, 0), MAX_SUBSTITUTES),
+                        excludedEquipment != null ? excludedEquipment : List.of())
+                .orElseThrow(() -> new ResourceNotFoundException("Exercise", "externalId", externalId))
+                .stream()
+                .map(substitute -> ExerciseSubstituteResponse.builder()
+                        .exercise(ExerciseResponse.fromApiResponse(substitute.getExercise()))
+                        .similarity(Math.round(substitute.getSimilarity() * 1000) / 1000.0)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Get a metadata list (body parts, targets or equipment) as pre-serialized JSON.
+     * Served from the catalog snapshot's rendered copy; while the catalog is
+     * loading, the list is fetched from ExerciseDB and rendered per request.
+     */
+    public Mono<Document> getMetadata(MetadataList list) {
+        return Mono.defer(() -> metadataDocuments.get(list)
+                .map(Mono::just)
+                .orElseGet(() -> fetchMetadata(list).collectList().map(metadataDocuments::render)));
+    }
+
+    /**
+     * Get exercise categories (body parts) as pre-serialized JSON, optionally
+     * only those containing {@code query} (case-insensitive).
+     */
+    public Mono<Document> getCategories(String query) {
+        return Mono.defer(() -> metadataDocuments.categories(query)
+                .map(Mono::just)
+                .orElseGet(() -> exerciseProvider.getBodyParts()
+                        .filter(category -> query == null || query.isBlank()
+                                || category.toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT)))
+                        .collectList()
+                        .map(metadataDocuments::render)));
+    }
+
+    private Flux<String> fetchMetadata(MetadataList list) {
+        return switch (list) {
+            case BODY_PARTS -> exerciseProvider.getBodyParts();
+            case TARGETS -> exerciseProvider.getTargets();
+            case EQUIPMENT -> exerciseProvider.getEquipment();
+        };
+    }
+
+    /**
+     * Cut one page out of a catalog listing. Listings are in-memory lists,
+     * so any page costs the same as the first.
      */
-    public List<String> getAllEquipment() {
-        return exerciseProvider.getEquipment();
+    private PaginatedResponse<ExerciseResponse> paginate(ExerciseCatalogIndex.Listing listing, String name,
+            int pageSize, int offset, String cursor) {
+        List<ExerciseDbApiResponse> exercises = listing.getExercises();
+        int total = exercises.size();
+
+        int from = cursor != null
+                ? ExerciseCursor.decode(cursor).resolve(listing, name)
+                : Math.min(Math.max(offset, 0), total);
+        int to = Math.min(from + pageSize, total);
+
+        List<ExerciseResponse> content = exercises.subList(from, to).stream()
+                .map(ExerciseResponse::fromApiResponse)
+                .toList();
+
+        boolean last = to >= total;
+        return PaginatedResponse.<ExerciseResponse>builder()
+                .content(content)
+                .page(from / pageSize)
+                .size(pageSize)
+                .totalElements(total)
+                .totalPages((total + pageSize - 1) / pageSize)
+                .first(from == 0)
+                .last(last)
+                .nextCursor(last ? null : ExerciseCursor.after(listing, to, name).encode())
+                .build();
+    }
+
+    private Mono<List<ExerciseResponse>> toResponses(Flux<ExerciseDbApiResponse> apiResults) {
+        return apiResults
+                .map(ExerciseResponse::fromApiResponse)
+                .collectList();
     }
 }
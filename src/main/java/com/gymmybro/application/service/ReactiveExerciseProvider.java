@@ -0,0 +1,43 @@
+package com.gymmybro.application.service;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link ExerciseProvider}.
+ * Lets request handlers compose exercise lookups without holding a
+ * servlet thread for the duration of an upstream round trip.
+ */
+public interface ReactiveExerciseProvider {
+
+    Flux<ExerciseDbApiResponse> fetchAllExercises(int limit, int offset);
+
+    Flux<ExerciseDbApiResponse> searchByName(String name);
+
+    Flux<ExerciseDbApiResponse> filterByBodyPart(String bodyPart);
+
+    Flux<ExerciseDbApiResponse> filterByTarget(String target);
+
+    Flux<ExerciseDbApiResponse> filterByEquipment(String equipment);
+
+    Flux<String> getBodyParts();
+
+    Flux<String> getTargets();
+
+    Flux<String> getEquipment();
+
+    /**
+     * @return The exercise, or an empty Mono if ExerciseDB returned no body
+     */
+    Mono<ExerciseDbApiResponse> getExerciseById(String externalId);
+
+    /**
+     * @param externalIds ExerciseDB IDs; duplicates are looked up once
+     * @return Found exercises keyed by ID, in request order; unknown IDs are absent
+     */
+    Mono<Map<String, ExerciseDbApiResponse>> getExercisesByIds(Collection<String> externalIds);
+}
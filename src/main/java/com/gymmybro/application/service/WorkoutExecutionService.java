@@ -1,13 +1,19 @@
 package com.gymmybro.application.service;
 
 import com.gymmybro.application.dto.request.CompleteWorkoutRequest;
+import com.gymmybro.application.dto.request.LogExerciseEntriesRequest;
 import com.gymmybro.application.dto.request.LogExerciseEntryRequest;
 import com.gymmybro.application.dto.request.StartWorkoutRequest;
+import com.gymmybro.application.dto.request.SyncWorkoutRequest;
 import com.gymmybro.application.dto.response.*;
 import com.gymmybro.domain.user.User;
 import com.gymmybro.domain.workout.*;
+import com.gymmybro.domain.workout.WorkoutLogEntryRepositoryCustom.PendingEntry;
 import com.gymmybro.exception.BadRequestException;
+import com.gymmybro.exception.ConflictException;
 import com.gymmybro.exception.ResourceNotFoundException;
+import com.gymmybro.infrastructure.workout.RecentWorkoutEntries;
+import com.gymmybro.infrastructure.workout.WorkoutEntryBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -18,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -35,6 +42,8 @@ public class WorkoutExecutionService {
     private final WorkoutDayRepository workoutDayRepository;
     private final WorkoutExerciseRepository workoutExerciseRepository;
     private final WorkoutPlanAssignmentRepository assignmentRepository;
+    private final WorkoutEntryBuffer entryBuffer;
+    private final RecentWorkoutEntries recentEntries;
 
     /**
      * Get today's active workout for a trainee.
@@ -130,7 +139,8 @@ public class WorkoutExecutionService {
 
         LocalDate workoutDate = request.getWorkoutDate() != null ? request.getWorkoutDate() : LocalDate.now();
 
-        // Check if already logged for this date
+        // Check if already logged for this date, with concurrent starts and syncs held back
+        workoutLogRepository.lockTrainee(traineeId);
         Optional<WorkoutLog> existingLog = workoutLogRepository.findByTraineeIdAndWorkoutDate(traineeId, workoutDate);
         if (existingLog.isPresent()) {
             throw new BadRequestException("Workout already logged for this date");
@@ -149,11 +159,90 @@ public class WorkoutExecutionService {
 
     /**
      * Log an exercise entry for an ongoing workout.
+     * The entry is inserted on its own, without loading the log or its other
+     * entries, so a set costs one SELECT and one INSERT however many sets the
+     * workout already has. With write-behind enabled the entry is buffered
+     * instead, and the SELECT is skipped for exercises already logged in the session.
+     * An entry with a client entry ID that was logged before is returned as stored
+     * (or as buffered), also once it has dropped out of the recent entries.
      */
     @Transactional
     public WorkoutLogEntryResponse logExerciseEntry(UUID logId, LogExerciseEntryRequest request) {
         log.info("Logging exercise entry for log {} - exercise {}", logId, request.getWorkoutExerciseId());
 
+        if (request.getClientEntryId() != null) {
+            Optional<WorkoutLogEntryResponse> recent = recentEntries.get(logId, request.getClientEntryId());
+            if (recent.isPresent()) {
+                log.debug("Entry {} of log {} already logged", request.getClientEntryId(), logId);
+                return recent.get();
+            }
+        }
+
+        WorkoutLogEntryTarget target = entryBuffer.isEnabled()
+                ? entryBuffer.knownTarget(logId, request.getWorkoutExerciseId())
+                        .orElseGet(() -> findOpenEntryTarget(logId, request.getWorkoutExerciseId()))
+                : findOpenEntryTarget(logId, request.getWorkoutExerciseId());
+        WorkoutLogEntry entry = entryOf(request).id(UUID.randomUUID()).build();
+        PendingEntry pending = PendingEntry.of(entry, logId, target.workoutExerciseId());
+
+        WorkoutLogEntryResponse response;
+        if (entryBuffer.isEnabled()) {
+            Optional<WorkoutLogEntry> stored = request.getClientEntryId() != null
+                    ? workoutLogEntryRepository.findByWorkoutLogIdAndClientEntryId(logId, request.getClientEntryId())
+                    : Optional.empty();
+            if (stored.isPresent()) {
+                response = WorkoutLogEntryResponse.fromEntity(stored.get());
+            } else {
+                // A retry of a set that is still buffered gets the buffered set back
+                PendingEntry buffered = entryBuffer.append(pending, target);
+                response = WorkoutLogEntryResponse.fromEntity(
+                        buffered == pending ? entry : entryOf(buffered), target);
+            }
+        } else if (workoutLogEntryRepository.insertAll(List.of(pending)) > 0) {
+            response = WorkoutLogEntryResponse.fromEntity(entry, target);
+        } else if (request.getClientEntryId() != null) {
+            // Logged before under the same client entry ID
+            response = workoutLogEntryRepository
+                    .findByWorkoutLogIdAndClientEntryId(logId, request.getClientEntryId())
+                    .map(WorkoutLogEntryResponse::fromEntity)
+                    .orElseThrow(() -> new ResourceNotFoundException("Workout log not found"));
+        } else {
+            throw new ResourceNotFoundException("Workout log not found");
+        }
+
+        recentEntries.put(logId, response);
+        return response;
+    }
+
+    /**
+     * Log several exercise entries for an ongoing workout in one transaction.
+     * All referenced workout exercises are resolved with a single query and the
+     * entries are written as one JDBC batch. Entries with a client entry ID that
+     * was logged before are returned as stored, in request order with the rest.
+     */
+    @Transactional
+    public List<WorkoutLogEntryResponse> logExerciseEntries(UUID logId, LogExerciseEntriesRequest request) {
+        log.info("Logging {} exercise entries for log {}", request.getEntries().size(), logId);
+
+        List<LogExerciseEntryRequest> entryRequests = request.getEntries();
+        WorkoutLogEntryResponse[] responses = new WorkoutLogEntryResponse[entryRequests.size()];
+        List<Integer> unseen = new ArrayList<>();
+        for (int i = 0; i < entryRequests.size(); i++) {
+            UUID clientEntryId = entryRequests.get(i).getClientEntryId();
+            Optional<WorkoutLogEntryResponse> recent = clientEntryId != null
+                    ? recentEntries.get(logId, clientEntryId)
+                    : Optional.empty();
+            if (recent.isPresent()) {
+                responses[i] = recent.get();
+            } else {
+                unseen.add(i);
+            }
+        }
+        if (unseen.isEmpty()) {
+            log.debug("All {} entries of log {} already logged", responses.length, logId);
+            return Arrays.asList(responses);
+        }
+
         WorkoutLog workoutLog = workoutLogRepository.findById(logId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workout log not found"));
 
@@ -161,25 +250,210 @@ public class WorkoutExecutionService {
             throw new BadRequestException("Cannot add entries to a completed workout");
         }
 
-        WorkoutExercise workoutExercise = workoutExerciseRepository.findById(request.getWorkoutExerciseId())
-                .orElseThrow(() -> new ResourceNotFoundException("Workout exercise not found"));
+        Map<UUID, WorkoutExercise> workoutExercises = findWorkoutExercises(unseen.stream()
+                .map(entryRequests::get)
+                .toList());
+
+        Map<Integer, WorkoutLogEntry> entries = new LinkedHashMap<>();
+        for (int i : unseen) {
+            LogExerciseEntryRequest entryRequest = entryRequests.get(i);
+            entries.put(i, entryOf(entryRequest)
+                    .id(UUID.randomUUID())
+                    .workoutExercise(workoutExercises.get(entryRequest.getWorkoutExerciseId()))
+                    .build());
+        }
+        workoutLogEntryRepository.insertAll(entries.values().stream()
+                .map(entry -> PendingEntry.of(entry, logId, entry.getWorkoutExercise().getId()))
+                .toList());
+
+        // Keyed entries may have been skipped as duplicates, so they are answered from what is stored
+        Set<UUID> clientEntryIds = entries.values().stream()
+                .map(WorkoutLogEntry::getClientEntryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, WorkoutLogEntry> stored = clientEntryIds.isEmpty()
+                ? Map.of()
+                : workoutLogEntryRepository.findByWorkoutLogIdAndClientEntryIdIn(logId, clientEntryIds).stream()
+                        .collect(Collectors.toMap(WorkoutLogEntry::getClientEntryId, entry -> entry));
+
+        entries.forEach((i, entry) -> {
+            WorkoutLogEntry logged = entry.getClientEntryId() != null
+                    ? stored.getOrDefault(entry.getClientEntryId(), entry)
+                    : entry;
+            responses[i] = WorkoutLogEntryResponse.fromEntity(logged);
+            recentEntries.put(logId, responses[i]);
+        });
+        return Arrays.asList(responses);
+    }
+
+    /**
+     * Record a whole workout session captured offline, with all its sets, in one
+     * transaction. A log already stored for the same date is resolved deterministically:
+     * <ul>
+     * <li>a log for another workout day is left untouched and the sync is rejected;</li>
+     * <li>a log for the same workout day is merged: it spans the earliest start and the
+     * latest completion, synced notes and rating replace stored ones when present, and
+     * synced sets are added unless the log already has a set with the same client entry
+     * ID, or for the same exercise and set number.</li>
+     * </ul>
+     * Syncing the same session again therefore leaves the log unchanged. Syncs for the
+     * same trainee are serialized on the trainee's row, so a retry sent while the first
+     * attempt is still running merges into the log that attempt created.
+     */
+    @Transactional
+    public WorkoutLogResponse syncWorkout(UUID traineeId, SyncWorkoutRequest request, User trainee) {
+        log.info("Syncing offline workout for trainee {} on day {} with {} entries",
+                traineeId, request.getWorkoutDayId(), request.getEntries().size());
+
+        if (request.getCompletedAt().isBefore(request.getStartedAt())) {
+            throw new BadRequestException("Workout cannot be completed before it started");
+        }
+
+        WorkoutDay workoutDay = workoutDayRepository.findById(request.getWorkoutDayId())
+                .orElseThrow(() -> new ResourceNotFoundException("Workout day not found"));
+
+        if (workoutDay.isRestDay()) {
+            throw new BadRequestException("Cannot log a workout on a rest day");
+        }
+
+        findWorkoutExercises(request.getEntries());
+
+        LocalDate workoutDate = request.getWorkoutDate() != null
+                ? request.getWorkoutDate()
+                : LocalDate.ofInstant(request.getStartedAt(),
+                        request.getTimeZone() != null ? request.getTimeZone() : ZoneOffset.UTC);
+
+        // A retried sync waits here for the first attempt to commit, then merges into its log
+        workoutLogRepository.lockTrainee(traineeId);
+        Optional<WorkoutLog> existingLog = workoutLogRepository.findByTraineeIdAndWorkoutDate(traineeId, workoutDate);
+        WorkoutLog workoutLog = existingLog
+                .map(existing -> mergeSyncedSession(existing, workoutDay, request))
+                .orElseGet(() -> WorkoutLog.builder()
+                        .trainee(trainee)
+                        .workoutDay(workoutDay)
+                        .workoutDate(workoutDate)
+                        .startedAt(request.getStartedAt())
+                        .completedAt(request.getCompletedAt())
+                        .notes(request.getNotes())
+                        .rating(request.getRating())
+                        .build());
+        workoutLog.setDurationMinutes(
+                (int) Duration.between(workoutLog.getStartedAt(), workoutLog.getCompletedAt()).toMinutes());
+
+        // The log row must exist before its entries are inserted over JDBC
+        workoutLogRepository.saveAndFlush(workoutLog);
+
+        Set<SetSlot> slots = new HashSet<>();
+        if (existingLog.isPresent()) {
+            for (Object[] row : workoutLogEntryRepository.findSetSlotsByWorkoutLogId(workoutLog.getId())) {
+                slots.add(new SetSlot((UUID) row[0], ((Number) row[1]).intValue()));
+            }
+        }
+
+        List<PendingEntry> pending = new ArrayList<>();
+        for (LogExerciseEntryRequest entryRequest : request.getEntries()) {
+            // The first set recorded for a slot wins, so stored sets are kept
+            if (slots.add(new SetSlot(entryRequest.getWorkoutExerciseId(), entryRequest.getSetNumber()))) {
+                WorkoutLogEntry entry = entryOf(entryRequest).id(UUID.randomUUID()).build();
+                pending.add(PendingEntry.of(entry, workoutLog.getId(), entryRequest.getWorkoutExerciseId()));
+            }
+        }
+        int inserted = workoutLogEntryRepository.insertAll(pending);
+
+        log.info("Synced workout {} for trainee {} ({}): {} of {} entries added", workoutLog.getId(), traineeId,
+                existingLog.isPresent() ? "merged" : "created", inserted, request.getEntries().size());
+
+        return WorkoutLogResponse.fromEntity(workoutLog,
+                workoutLogEntryRepository.findByWorkoutLogIdOrderBySetNumberAsc(workoutLog.getId()));
+    }
+
+    private WorkoutLog mergeSyncedSession(WorkoutLog existing, WorkoutDay workoutDay, SyncWorkoutRequest request) {
+        if (!existing.getWorkoutDay().getId().equals(workoutDay.getId())) {
+            throw new ConflictException("A different workout is already logged for this date");
+        }
+
+        // Sets still buffered for the stored log take part in the merge
+        entryBuffer.close(existing.getId());
+
+        if (existing.getStartedAt() == null || request.getStartedAt().isBefore(existing.getStartedAt())) {
+            existing.setStartedAt(request.getStartedAt());
+        }
+        if (existing.getCompletedAt() == null || request.getCompletedAt().isAfter(existing.getCompletedAt())) {
+            existing.setCompletedAt(request.getCompletedAt());
+        }
+        if (request.getNotes() != null) {
+            existing.setNotes(request.getNotes());
+        }
+        if (request.getRating() != null) {
+            existing.setRating(request.getRating());
+        }
+        return existing;
+    }
+
+    /**
+     * Resolve the workout exercises referenced by entries with a single query.
+     *
+     * @throws ResourceNotFoundException if any of them does not exist
+     */
+    private Map<UUID, WorkoutExercise> findWorkoutExercises(List<LogExerciseEntryRequest> entryRequests) {
+        Set<UUID> workoutExerciseIds = entryRequests.stream()
+                .map(LogExerciseEntryRequest::getWorkoutExerciseId)
+                .collect(Collectors.toSet());
+        if (workoutExerciseIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, WorkoutExercise> workoutExercises = workoutExerciseRepository.findAllById(workoutExerciseIds)
+                .stream()
+                .collect(Collectors.toMap(WorkoutExercise::getId, we -> we));
+
+        if (workoutExercises.size() < workoutExerciseIds.size()) {
+            workoutExerciseIds.removeAll(workoutExercises.keySet());
+            throw new ResourceNotFoundException("Workout exercises not found: " + workoutExerciseIds);
+        }
+        return workoutExercises;
+    }
+
+    /**
+     * Resolve the log and workout exercise an entry is appended to.
+     */
+    private WorkoutLogEntryTarget findOpenEntryTarget(UUID logId, UUID workoutExerciseId) {
+        WorkoutLogEntryTarget target = workoutLogRepository.findEntryTarget(logId, workoutExerciseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workout log not found"));
+
+        if (target.isLogCompleted()) {
+            throw new BadRequestException("Cannot add entries to a completed workout");
+        }
+        if (!target.hasWorkoutExercise()) {
+            throw new ResourceNotFoundException("Workout exercise not found");
+        }
+        return target;
+    }
 
-        WorkoutLogEntry entry = WorkoutLogEntry.builder()
-                .workoutLog(workoutLog)
-                .workoutExercise(workoutExercise)
+    private static WorkoutLogEntry.WorkoutLogEntryBuilder entryOf(LogExerciseEntryRequest request) {
+        return WorkoutLogEntry.builder()
                 .setNumber(request.getSetNumber())
                 .actualWeight(request.getWeight())
                 .actualReps(request.getRepsPerformed())
                 .actualDurationSeconds(request.getDurationSeconds())
                 .rpe(request.getRpe())
                 .notes(request.getNotes())
+                .clientEntryId(request.getClientEntryId())
+                .isCompleted(true);
+    }
+
+    private static WorkoutLogEntry entryOf(PendingEntry pending) {
+        return WorkoutLogEntry.builder()
+                .id(pending.id())
+                .setNumber(pending.setNumber())
+                .actualWeight(pending.actualWeight())
+                .actualReps(pending.actualReps())
+                .actualDurationSeconds(pending.actualDurationSeconds())
+                .rpe(pending.rpe())
+                .notes(pending.notes())
+                .clientEntryId(pending.clientEntryId())
                 .isCompleted(true)
                 .build();
-
-        workoutLog.getEntries().add(entry);
-        workoutLogRepository.save(workoutLog);
-
-        return WorkoutLogEntryResponse.fromEntity(entry);
     }
 
     /**
@@ -189,6 +463,9 @@ public class WorkoutExecutionService {
     public WorkoutLogResponse completeWorkout(UUID logId, CompleteWorkoutRequest request) {
         log.info("Completing workout {}", logId);
 
+        // Buffered sets must be written before the workout is closed
+        entryBuffer.close(logId);
+
         WorkoutLog workoutLog = workoutLogRepository.findById(logId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workout log not found"));
 
@@ -212,12 +489,17 @@ public class WorkoutExecutionService {
 
     /**
      * Get workout history for a trainee.
+     * Sets still buffered for in-progress logs on the page are written first;
+     * entries are loaded lazily afterwards, so the response includes them.
      */
     @Transactional(readOnly = true)
     public PaginatedResponse<WorkoutLogResponse> getWorkoutHistory(UUID traineeId, Pageable pageable) {
         log.info("Getting workout history for trainee {}", traineeId);
 
         Page<WorkoutLog> page = workoutLogRepository.findByTraineeIdOrderByWorkoutDateDesc(traineeId, pageable);
+        page.getContent().stream()
+                .filter(workoutLog -> workoutLog.getCompletedAt() == null)
+                .forEach(workoutLog -> entryBuffer.flush(workoutLog.getId()));
 
         List<WorkoutLogResponse> content = page.getContent().stream()
                 .map(WorkoutLogResponse::fromEntity)
@@ -237,6 +519,7 @@ public class WorkoutExecutionService {
      */
     @Transactional(readOnly = true)
     public WorkoutLogResponse getWorkoutLog(UUID logId) {
+        entryBuffer.flush(logId);
         WorkoutLog log = workoutLogRepository.findById(logId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workout log not found"));
         return WorkoutLogResponse.fromEntity(log);
@@ -306,4 +589,10 @@ public class WorkoutExecutionService {
 
         return streak;
     }
+
+    /**
+     * Position of a set within a workout log.
+     */
+    private record SetSlot(UUID workoutExerciseId, int setNumber) {
+    }
 }
@@ -9,7 +9,6 @@ import com.gymmybro.domain.workout.*;
 import com.gymmybro.exception.BadRequestException;
 import com.gymmybro.exception.ForbiddenException;
 import com.gymmybro.exception.ResourceNotFoundException;
-import com.gymmybro.infrastructure.external.ExerciseDbClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -32,7 +31,7 @@ public class WorkoutPlanService {
 
     private final WorkoutPlanRepository workoutPlanRepository;
     private final WorkoutPlanAssignmentRepository assignmentRepository;
-    private final ExerciseDbClient exerciseDbClient;
+    private final ExerciseProvider exerciseProvider;
     private final UserRepository userRepository;
 
     /**
@@ -381,8 +380,8 @@ public class WorkoutPlanService {
     }
 
     private WorkoutExercise buildWorkoutExercise(CreateWorkoutExerciseRequest request, WorkoutBlock block) {
-        // Fetch exercise from ExerciseDB API to validate and get details
-        ExerciseDbApiResponse apiResponse = exerciseDbClient.getExerciseById(request.getExerciseExternalId());
+        // Resolve exercise from the catalog to validate and get details
+        ExerciseDbApiResponse apiResponse = exerciseProvider.getExerciseById(request.getExerciseExternalId());
 
         if (apiResponse == null) {
             throw new ResourceNotFoundException(
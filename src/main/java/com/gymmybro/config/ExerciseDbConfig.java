@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 /**
  * Configuration properties for ExerciseDB API (RapidAPI).
@@ -30,10 +33,333 @@ public class ExerciseDbConfig {
      */
     private String host = "exercisedb-api1.p.rapidapi.com";
 
+    /**
+     * Maximum concurrent ExerciseDB calls made for one batch lookup.
+     */
+    private int batchConcurrency = 8;
+
+    /**
+     * In-process exercise catalog settings.
+     */
+    private Catalog catalog = new Catalog();
+
+    /**
+     * Response cache in front of ExerciseDB.
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Timeouts, circuit breaking and concurrency limits for ExerciseDB calls.
+     */
+    private Resilience resilience = new Resilience();
+
+    /**
+     * Duplicate requests sent when ExerciseDB is slower than usual.
+     */
+    private Hedging hedging = new Hedging();
+
+    /**
+     * RapidAPI request quota accounting.
+     */
+    private Quota quota = new Quota();
+
+    /**
+     * Local cache of exercise GIFs and images.
+     */
+    private Media media = new Media();
+
+    /**
+     * Startup prefetch of exercises used by active plans.
+     */
+    private WarmUp warmUp = new WarmUp();
+
     /**
      * Check if RapidAPI authentication is configured.
      */
     public boolean isRapidApiEnabled() {
         return apiKey != null && !apiKey.isBlank();
     }
+
+    @Getter
+    @Setter
+    public static class Catalog {
+
+        /**
+         * Whether exercise reads are served from the in-memory catalog.
+         * When disabled, every read goes straight to ExerciseDB.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Page size used when loading the full catalog from ExerciseDB (max 1000).
+         */
+        private int pageSize = 500;
+
+        /**
+         * Safety cap on the number of pages fetched per load.
+         */
+        private int maxPages = 50;
+
+        /**
+         * Pages fetched in parallel during a sync; lowered further to what the
+         * background quota allows at the start of the sync.
+         */
+        private int ingestConcurrency = 4;
+
+        /**
+         * Retries of a failed page before the sync gives up on it.
+         */
+        private int pageRetries = 3;
+
+        /**
+         * Interval between background catalog refreshes.
+         */
+        private Duration refreshInterval = Duration.ofHours(6);
+
+        /**
+         * Binary snapshot file used to serve the catalog right after boot.
+         * Leave empty to disable.
+         */
+        private String snapshotFile;
+
+        /**
+         * Interval between refreshes of the exercise name and GIF URL cached on workout exercises.
+         */
+        private Duration workoutRefreshInterval = Duration.ofDays(1);
+
+        /**
+         * Distinct exercises resolved and updated per workout exercise refresh batch.
+         */
+        private int workoutRefreshBatchSize = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Whether upstream responses are cached.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Time an exercise, search or filter response is considered fresh.
+         * Expired entries are still served while they are refreshed.
+         */
+        private Duration ttl = Duration.ofMinutes(30);
+
+        /**
+         * Freshness window for body part, target and equipment lists.
+         */
+        private Duration metadataTtl = Duration.ofDays(7);
+
+        /**
+         * Maximum cached single-exercise lookups.
+         */
+        private int maxExercises = 5000;
+
+        /**
+         * Maximum cached name searches.
+         */
+        private int maxSearches = 500;
+
+        /**
+         * Maximum cached body part / target / equipment filters.
+         */
+        private int maxFilters = 300;
+
+        /**
+         * Maximum cached catalog pages.
+         */
+        private int maxPages = 50;
+    }
+
+    @Getter
+    @Setter
+    public static class Resilience {
+
+        /**
+         * Maximum time to wait for a complete ExerciseDB response.
+         */
+        private Duration responseTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Number of recent calls per endpoint the failure rate is computed over.
+         */
+        private int slidingWindowSize = 20;
+
+        /**
+         * Calls required in the window before the failure rate is evaluated.
+         */
+        private int minimumCalls = 10;
+
+        /**
+         * Failure percentage at which an endpoint's circuit opens.
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * How long an open circuit rejects calls before letting trial calls through.
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /**
+         * Trial calls allowed while half-open; all must succeed to close the circuit.
+         */
+        private int halfOpenCalls = 3;
+
+        /**
+         * Starting concurrency limit for in-flight ExerciseDB calls.
+         */
+        private int initialLimit = 10;
+
+        /**
+         * Lower bound for the adaptive concurrency limit.
+         */
+        private int minLimit = 2;
+
+        /**
+         * Upper bound for the adaptive concurrency limit (bulkhead size).
+         */
+        private int maxLimit = 50;
+
+        /**
+         * Factor applied to the limit after a timeout, failure or latency spike.
+         */
+        private double backoffRatio = 0.7;
+
+        /**
+         * A call slower than this multiple of the baseline latency counts as congestion.
+         */
+        private double latencyTolerance = 2.0;
+    }
+
+    @Getter
+    @Setter
+    public static class Hedging {
+
+        /**
+         * Whether slow single-exercise and list lookups are hedged.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Latency percentile after which a duplicate request is sent.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Extra upstream load allowed for hedges, as a percentage of requests.
+         */
+        private double budgetPercent = 5;
+
+        /**
+         * Latency samples an endpoint needs before it is hedged.
+         */
+        private int minSamples = 50;
+
+        /**
+         * Lower bound for the hedge delay, so fast endpoints are not duplicated on jitter.
+         */
+        private Duration minDelay = Duration.ofMillis(50);
+    }
+
+    @Getter
+    @Setter
+    public static class Quota {
+
+        /**
+         * Whether ExerciseDB calls are metered against the quota.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Requests included in the RapidAPI plan per calendar month (UTC).
+         */
+        private long monthlyLimit = 50_000;
+
+        /**
+         * Hard cap per day; 0 spreads the remaining monthly quota evenly over the days left.
+         */
+        private long dailyLimit = 0;
+
+        /**
+         * Requests that may be spent back to back before pacing applies.
+         */
+        private int burst = 20;
+
+        /**
+         * Share of the daily budget only user-facing requests may use.
+         */
+        private int interactiveReservePercent = 25;
+
+        /**
+         * Longest a background request waits for pacing before it is rejected.
+         */
+        private Duration maxBackgroundWait = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Media {
+
+        /**
+         * Directory holding cached media files.
+         */
+        private String directory = "data/exercise-media";
+
+        /**
+         * Total size of cached media before least recently used files are deleted.
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(512);
+
+        /**
+         * Largest single file that is fetched and cached.
+         */
+        private DataSize maxFileSize = DataSize.ofMegabytes(10);
+
+        /**
+         * How long an evicted file stays on disk, so responses that are still
+         * sending it (the container opens it once the response completes) can finish.
+         */
+        private Duration evictionGrace = Duration.ofMinutes(2);
+
+        /**
+         * Time allowed to download one file from the media host.
+         */
+        private Duration fetchTimeout = Duration.ofSeconds(20);
+
+        /**
+         * Cache-Control max-age sent with media responses.
+         */
+        private Duration maxAge = Duration.ofDays(365);
+    }
+
+    @Getter
+    @Setter
+    public static class WarmUp {
+
+        /**
+         * Whether readiness waits for the startup warm-up.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Longest readiness is held back; warm-up keeps running afterwards.
+         */
+        private Duration timeout = Duration.ofSeconds(60);
+
+        /**
+         * Longest warm-up waits for the catalog before prefetching from
+         * ExerciseDB instead; kept well below {@code timeout} so the prefetch
+         * still runs while readiness is held back.
+         */
+        private Duration catalogWait = Duration.ofSeconds(15);
+
+        /**
+         * Exercises prefetched per upstream batch; batches run one after another,
+         * each with at most {@code batch-concurrency} requests in flight.
+         */
+        private int batchSize = 50;
+    }
 }
@@ -0,0 +1,72 @@
+package com.gymmybro.config;
+
+import com.gymmybro.application.service.ExerciseProvider;
+import com.gymmybro.application.service.ReactiveExerciseProvider;
+import com.gymmybro.infrastructure.external.CachingExerciseProvider;
+import com.gymmybro.infrastructure.external.CachingReactiveExerciseProvider;
+import com.gymmybro.infrastructure.external.CoalescingExerciseProvider;
+import com.gymmybro.infrastructure.external.CoalescingReactiveExerciseProvider;
+import com.gymmybro.infrastructure.external.ExerciseDbClient;
+import com.gymmybro.infrastructure.external.ExerciseDbResponseCache;
+import com.gymmybro.infrastructure.external.ReactiveExerciseDbClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Assembles the upstream ExerciseDB provider chains used behind the
+ * in-process catalog: the client, then single-flight coalescing of
+ * identical concurrent calls, then (optionally) the response cache.
+ * The blocking and the reactive chain share one response cache.
+ */
+@Configuration
+@Slf4j
+public class ExerciseProviderConfig {
+
+    public static final String UPSTREAM = "upstreamExerciseProvider";
+    public static final String REACTIVE_UPSTREAM = "reactiveUpstreamExerciseProvider";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "exercisedb.cache", name = "enabled", matchIfMissing = true)
+    public ExerciseDbResponseCache exerciseDbResponseCache(
+            ExerciseDbConfig config,
+            @Qualifier("applicationTaskExecutor") Executor refreshExecutor,
+            MeterRegistry meterRegistry) {
+        return new ExerciseDbResponseCache(config.getCache(), refreshExecutor, meterRegistry);
+    }
+
+    @Bean(name = UPSTREAM)
+    public ExerciseProvider upstreamExerciseProvider(
+            ExerciseDbClient exerciseDbClient,
+            ObjectProvider<ExerciseDbResponseCache> responseCache,
+            MeterRegistry meterRegistry) {
+
+        ExerciseProvider coalesced = new CoalescingExerciseProvider(exerciseDbClient, meterRegistry);
+
+        ExerciseDbResponseCache cache = responseCache.getIfAvailable();
+        if (cache == null) {
+            log.info("ExerciseDB response cache disabled");
+            return coalesced;
+        }
+        return new CachingExerciseProvider(coalesced, cache);
+    }
+
+    @Bean(name = REACTIVE_UPSTREAM)
+    public ReactiveExerciseProvider reactiveUpstreamExerciseProvider(
+            ReactiveExerciseDbClient reactiveExerciseDbClient,
+            ObjectProvider<ExerciseDbResponseCache> responseCache,
+            MeterRegistry meterRegistry) {
+
+        ReactiveExerciseProvider coalesced = new CoalescingReactiveExerciseProvider(reactiveExerciseDbClient,
+                meterRegistry);
+
+        ExerciseDbResponseCache cache = responseCache.getIfAvailable();
+        return cache != null ? new CachingReactiveExerciseProvider(coalesced, cache) : coalesced;
+    }
+}
@@ -0,0 +1,12 @@
+package com.gymmybro.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (e.g. exercise catalog refresh).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,7 @@
 package com.gymmybro.config;
 
 import com.gymmybro.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -57,10 +58,18 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches resume an already authorized request (reactive controllers)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints - no authentication required
-                        .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/liveness", "/actuator/health/readiness")
+                        .permitAll()
+                        .requestMatchers("/actuator/info").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/api/v1/exercises/metadata/**").permitAll()
+                        // Loaded by <img> tags, which cannot send a bearer token
+                        .requestMatchers(HttpMethod.GET, "/api/v1/exercises/*/media").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/api/v1/exercises/*/media").permitAll()
 
                         // Auth endpoints - public
                         .requestMatchers("/api/v1/auth/register", "/api/v1/auth/token", "/api/v1/auth/refresh")
@@ -70,6 +79,7 @@ public class SecurityConfig {
 
                         // Admin only endpoints
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/exercisedbquota").hasRole("ADMIN")
                         .requestMatchers("/api/v1/exercises/ingest/**").hasRole("ADMIN")
                         .requestMatchers("/api/v1/emails/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/users").hasRole("ADMIN")
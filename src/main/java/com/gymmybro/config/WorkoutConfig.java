@@ -0,0 +1,75 @@
+package com.gymmybro.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for workout logging.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "workout")
+@Getter
+@Setter
+public class WorkoutConfig {
+
+    /**
+     * Buffering of sets logged during an in-progress workout.
+     */
+    private WriteBehind writeBehind = new WriteBehind();
+
+    /**
+     * Deduplication of retried set logging requests.
+     */
+    private Idempotency idempotency = new Idempotency();
+
+    @Getter
+    @Setter
+    public static class WriteBehind {
+
+        /**
+         * Whether logged sets are buffered in memory and written to the database later.
+         * When disabled, every set is inserted as it is logged.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Interval between flushes of all buffered sets.
+         */
+        private Duration flushInterval = Duration.ofSeconds(5);
+
+        /**
+         * Buffered sets of one workout that trigger an immediate flush of that workout.
+         */
+        private int flushThreshold = 25;
+
+        /**
+         * Number of locks the buffered workouts are spread over.
+         */
+        private int lockStripes = 64;
+
+        /**
+         * Append-only journal that buffered sets are recovered from after a crash.
+         */
+        private String journalFile = "data/workout-entries.journal";
+
+        /**
+         * Whether each journal append is forced to disk before the set is acknowledged.
+         */
+        private boolean fsync = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Idempotency {
+
+        /**
+         * Recently logged client entry IDs kept in memory, so retries are answered
+         * without a database round trip. Older keys are still deduplicated by the database.
+         */
+        private int recentKeys = 10_000;
+    }
+}
@@ -0,0 +1,81 @@
+package com.gymmybro.domain.exercise;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exercise entity - local copy of an ExerciseDB catalog record.
+ * Rows are written by the catalog sync, never by request handlers.
+ */
+@Entity
+@Table(name = "exercises")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Exercise {
+
+    /**
+     * ExerciseDB ID (e.g., "0001")
+     */
+    @Id
+    @Column(name = "external_id", length = 100)
+    private String externalId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "image_url", length = 500)
+    private String imageUrl;
+
+    @Column(name = "exercise_type", length = 50)
+    private String exerciseType;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "body_parts", columnDefinition = "text[]", nullable = false)
+    @Builder.Default
+    private List<String> bodyParts = new ArrayList<>();
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "target_muscles", columnDefinition = "text[]", nullable = false)
+    @Builder.Default
+    private List<String> targetMuscles = new ArrayList<>();
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "equipments", columnDefinition = "text[]", nullable = false)
+    @Builder.Default
+    private List<String> equipments = new ArrayList<>();
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "secondary_muscles", columnDefinition = "text[]", nullable = false)
+    @Builder.Default
+    private List<String> secondaryMuscles = new ArrayList<>();
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "instructions", columnDefinition = "text[]", nullable = false)
+    @Builder.Default
+    private List<String> instructions = new ArrayList<>();
+
+    /**
+     * SHA-256 of the upstream record, used to skip unchanged rows on sync
+     */
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,43 @@
+package com.gymmybro.domain.exercise;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the local exercise catalog.
+ */
+@Repository
+public interface ExerciseRepository extends JpaRepository<Exercise, String>, ExerciseRepositoryCustom {
+
+    /**
+     * ID and content hash of every stored exercise (delta sync)
+     */
+    @Query("SELECT e.externalId AS externalId, e.contentHash AS contentHash FROM Exercise e")
+    List<ContentHash> findAllContentHashes();
+
+    /**
+     * Full catalog in ID order
+     */
+    List<Exercise> findAllByOrderByExternalIdAsc();
+
+    /**
+     * Remove exercises that are no longer in the upstream catalog
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Exercise e WHERE e.externalId NOT IN :externalIds")
+    int deleteByExternalIdNotIn(@Param("externalIds") Collection<String> externalIds);
+
+    interface ContentHash {
+        String getExternalId();
+
+        String getContentHash();
+    }
+}
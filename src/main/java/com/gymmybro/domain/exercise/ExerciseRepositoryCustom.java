@@ -0,0 +1,17 @@
+package com.gymmybro.domain.exercise;
+
+import java.util.List;
+
+/**
+ * Bulk write operations for the exercise catalog that bypass the persistence context.
+ */
+public interface ExerciseRepositoryCustom {
+
+    /**
+     * Insert or update exercises with JDBC batching.
+     * Existing rows whose content hash did not change are left untouched.
+     *
+     * @return Number of rows written
+     */
+    int upsertAll(List<Exercise> exercises);
+}
@@ -0,0 +1,78 @@
+package com.gymmybro.domain.exercise;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link ExerciseRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+class ExerciseRepositoryImpl implements ExerciseRepositoryCustom {
+
+    private static final int BATCH_SIZE = 200;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO exercises (external_id, name, image_url, exercise_type, body_parts, target_muscles,
+                equipments, secondary_muscles, instructions, content_hash, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON CONFLICT (external_id) DO UPDATE SET
+                name = EXCLUDED.name,
+                image_url = EXCLUDED.image_url,
+                exercise_type = EXCLUDED.exercise_type,
+                body_parts = EXCLUDED.body_parts,
+                target_muscles = EXCLUDED.target_muscles,
+                equipments = EXCLUDED.equipments,
+                secondary_muscles = EXCLUDED.secondary_muscles,
+                instructions = EXCLUDED.instructions,
+                content_hash = EXCLUDED.content_hash,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE exercises.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int upsertAll(List<Exercise> exercises) {
+        if (exercises.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(UPSERT_SQL, exercises, BATCH_SIZE, this::bind);
+
+        int written = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // The driver may report SUCCESS_NO_INFO for rewritten batches
+                written += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return written;
+    }
+
+    private void bind(PreparedStatement ps, Exercise exercise) throws SQLException {
+        Connection connection = ps.getConnection();
+        ps.setString(1, exercise.getExternalId());
+        ps.setString(2, exercise.getName());
+        ps.setString(3, exercise.getImageUrl());
+        ps.setString(4, exercise.getExerciseType());
+        ps.setArray(5, textArray(connection, exercise.getBodyParts()));
+        ps.setArray(6, textArray(connection, exercise.getTargetMuscles()));
+        ps.setArray(7, textArray(connection, exercise.getEquipments()));
+        ps.setArray(8, textArray(connection, exercise.getSecondaryMuscles()));
+        ps.setArray(9, textArray(connection, exercise.getInstructions()));
+        ps.setString(10, exercise.getContentHash());
+    }
+
+    private static Array textArray(Connection connection, List<String> values) throws SQLException {
+        return connection.createArrayOf("text", values != null ? values.toArray() : new Object[0]);
+    }
+}
@@ -0,0 +1,62 @@
+package com.gymmybro.domain.job;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Progress of a resumable background job.
+ * A run saves its position after every committed batch; a run that was
+ * interrupted (no completion time) is resumed from that position.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobCheckpoint {
+
+    /**
+     * Unique job name
+     */
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    /**
+     * Last key processed by the current run, null before the first batch
+     */
+    @Column(name = "position")
+    private String position;
+
+    /**
+     * When the current run started
+     */
+    @Column(name = "run_started_at", nullable = false)
+    private Instant runStartedAt;
+
+    /**
+     * When the current run finished, null while it is in progress
+     */
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    /**
+     * Rows changed by the current run so far
+     */
+    @Column(name = "rows_updated", nullable = false)
+    @Builder.Default
+    private long rowsUpdated = 0;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.gymmybro.domain.workout;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,7 +13,8 @@ import java.util.UUID;
  * Repository for WorkoutExercise entity operations.
  */
 @Repository
-public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise, UUID> {
+public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise, UUID>,
+        WorkoutExerciseRepositoryCustom {
 
     /**
      * Find all exercises in a block, ordered by exercise order
@@ -33,6 +35,25 @@ public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise
      */
     long countByExerciseExternalId(String exerciseExternalId);
 
+    /**
+     * Distinct exercise IDs referenced by workout exercises, in ascending order,
+     * starting after {@code after} (keyset pagination)
+     */
+    @Query("SELECT DISTINCT we.exerciseExternalId FROM WorkoutExercise we " +
+            "WHERE we.exerciseExternalId > :after " +
+            "ORDER BY we.exerciseExternalId")
+    List<String> findDistinctExerciseExternalIdsAfter(@Param("after") String after, Limit limit);
+
+    /**
+     * Distinct exercise IDs used by plans with at least one active assignment
+     */
+    @Query("SELECT DISTINCT we.exerciseExternalId FROM WorkoutExercise we " +
+            "JOIN we.workoutBlock wb " +
+            "JOIN wb.workoutDay wd " +
+            "WHERE wd.workoutPlan.id IN (" +
+            "SELECT wpa.workoutPlan.id FROM WorkoutPlanAssignment wpa WHERE wpa.isActive = true)")
+    List<String> findExerciseExternalIdsOfActivePlans();
+
     /**
      * Delete all exercises for a block
      */
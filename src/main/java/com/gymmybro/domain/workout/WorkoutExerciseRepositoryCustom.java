@@ -0,0 +1,24 @@
+package com.gymmybro.domain.workout;
+
+import java.util.List;
+
+/**
+ * Bulk write operations for workout exercises that bypass the persistence context.
+ */
+public interface WorkoutExerciseRepositoryCustom {
+
+    /**
+     * Overwrite the cached exercise name and GIF URL of every workout exercise
+     * referencing each given exercise, with JDBC batching (one set-based
+     * UPDATE per exercise). Rows that already hold the values are left untouched.
+     *
+     * @return Number of rows changed
+     */
+    int refreshExerciseDetails(List<ExerciseDetails> details);
+
+    /**
+     * Current name and GIF URL of a catalog exercise.
+     */
+    record ExerciseDetails(String externalId, String name, String gifUrl) {
+    }
+}
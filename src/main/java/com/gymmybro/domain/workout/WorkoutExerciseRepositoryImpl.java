@@ -0,0 +1,55 @@
+package com.gymmybro.domain.workout;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link WorkoutExerciseRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+class WorkoutExerciseRepositoryImpl implements WorkoutExerciseRepositoryCustom {
+
+    private static final int BATCH_SIZE = 200;
+
+    private static final String REFRESH_SQL = """
+            UPDATE workout_exercises
+            SET exercise_name = ?, exercise_gif_url = ?
+            WHERE exercise_external_id = ?
+              AND (exercise_name IS DISTINCT FROM ? OR exercise_gif_url IS DISTINCT FROM ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int refreshExerciseDetails(List<ExerciseDetails> details) {
+        if (details.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(REFRESH_SQL, details, BATCH_SIZE, this::bind);
+
+        int updated = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // The driver may report SUCCESS_NO_INFO for rewritten batches
+                updated += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    private void bind(PreparedStatement ps, ExerciseDetails exercise) throws SQLException {
+        ps.setString(1, exercise.name());
+        ps.setString(2, exercise.gifUrl());
+        ps.setString(3, exercise.externalId());
+        ps.setString(4, exercise.name());
+        ps.setString(5, exercise.gifUrl());
+    }
+}
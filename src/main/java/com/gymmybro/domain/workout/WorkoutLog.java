@@ -17,7 +17,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "workout_logs", indexes = {
         @Index(name = "idx_workout_log_date", columnList = "workout_date")
-})
+}, uniqueConstraints = @UniqueConstraint(name = "uk_workout_logs_trainee_date", columnNames = {
+        "trainee_id", "workout_date" }))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -11,7 +11,8 @@ import java.util.UUID;
  * Tracks actual sets, reps, and weight performed by the trainee.
  */
 @Entity
-@Table(name = "workout_log_entries")
+@Table(name = "workout_log_entries", uniqueConstraints = @UniqueConstraint(name = "uk_log_entries_client_entry", columnNames = {
+        "workout_log_id", "client_entry_id" }))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -71,4 +72,11 @@ public class WorkoutLogEntry {
      * Notes for this specific set
      */
     private String notes;
+
+    /**
+     * Key generated by the client for this set; a retried request with the same
+     * key returns the stored set instead of logging it again
+     */
+    @Column(name = "client_entry_id")
+    private UUID clientEntryId;
 }
@@ -5,7 +5,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -13,13 +15,32 @@ import java.util.UUID;
  * Tracks individual exercise performance within a workout.
  */
 @Repository
-public interface WorkoutLogEntryRepository extends JpaRepository<WorkoutLogEntry, UUID> {
+public interface WorkoutLogEntryRepository extends JpaRepository<WorkoutLogEntry, UUID>,
+                WorkoutLogEntryRepositoryCustom {
 
         /**
          * Find all entries for a workout log
          */
         List<WorkoutLogEntry> findByWorkoutLogIdOrderBySetNumberAsc(UUID workoutLogId);
 
+        /**
+         * Find the entry logged under a client-generated key
+         */
+        Optional<WorkoutLogEntry> findByWorkoutLogIdAndClientEntryId(UUID workoutLogId, UUID clientEntryId);
+
+        /**
+         * Find the entries logged under any of several client-generated keys
+         */
+        List<WorkoutLogEntry> findByWorkoutLogIdAndClientEntryIdIn(UUID workoutLogId,
+                        Collection<UUID> clientEntryIds);
+
+        /**
+         * Workout exercise ID and set number of every entry in a log
+         */
+        @Query("SELECT wle.workoutExercise.id, wle.setNumber FROM WorkoutLogEntry wle " +
+                        "WHERE wle.workoutLog.id = :workoutLogId")
+        List<Object[]> findSetSlotsByWorkoutLogId(@Param("workoutLogId") UUID workoutLogId);
+
         /**
          * Find entries for a specific exercise within a log
          */
@@ -0,0 +1,32 @@
+package com.gymmybro.domain.workout;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk write operations for workout log entries that bypass the persistence context.
+ */
+public interface WorkoutLogEntryRepositoryCustom {
+
+    /**
+     * Insert entries with JDBC batching. Entries whose ID or client entry ID already
+     * exists, or whose workout log or workout exercise no longer exists, are skipped,
+     * so replaying the same entries is harmless.
+     *
+     * @return Number of rows inserted
+     */
+    int insertAll(List<PendingEntry> entries);
+
+    /**
+     * A logged set that has not been written yet; the ID is assigned when the set is logged.
+     */
+    record PendingEntry(UUID id, UUID workoutLogId, UUID workoutExerciseId, int setNumber, Integer actualReps,
+            Double actualWeight, Integer actualDurationSeconds, Integer rpe, String notes, UUID clientEntryId) {
+
+        public static PendingEntry of(WorkoutLogEntry entry, UUID workoutLogId, UUID workoutExerciseId) {
+            return new PendingEntry(entry.getId(), workoutLogId, workoutExerciseId, entry.getSetNumber(),
+                    entry.getActualReps(), entry.getActualWeight(), entry.getActualDurationSeconds(), entry.getRpe(),
+                    entry.getNotes(), entry.getClientEntryId());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.gymmybro.domain.workout;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link WorkoutLogEntryRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+class WorkoutLogEntryRepositoryImpl implements WorkoutLogEntryRepositoryCustom {
+
+    private static final int BATCH_SIZE = 200;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO workout_log_entries (id, workout_log_id, workout_exercise_id, set_number, actual_reps,
+                                             actual_weight, actual_duration_seconds, rpe, is_completed, notes,
+                                             client_entry_id)
+            SELECT ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?
+            WHERE EXISTS (SELECT 1 FROM workout_logs WHERE id = ?)
+              AND EXISTS (SELECT 1 FROM workout_exercises WHERE id = ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<PendingEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, entries, BATCH_SIZE, this::bind);
+
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // The driver may report SUCCESS_NO_INFO for rewritten batches
+                inserted += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+
+    private void bind(PreparedStatement ps, PendingEntry entry) throws SQLException {
+        ps.setObject(1, entry.id());
+        ps.setObject(2, entry.workoutLogId());
+        ps.setObject(3, entry.workoutExerciseId());
+        ps.setInt(4, entry.setNumber());
+        setNullable(ps, 5, entry.actualReps(), Types.INTEGER);
+        setNullable(ps, 6, entry.actualWeight(), Types.DOUBLE);
+        setNullable(ps, 7, entry.actualDurationSeconds(), Types.INTEGER);
+        setNullable(ps, 8, entry.rpe(), Types.INTEGER);
+        ps.setString(9, entry.notes());
+        setNullable(ps, 10, entry.clientEntryId(), Types.OTHER);
+        ps.setObject(11, entry.workoutLogId());
+        ps.setObject(12, entry.workoutExerciseId());
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value, sqlType);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.gymmybro.domain.workout;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * What is needed to append an entry to a workout log without loading the log
+ * or the workout exercise: whether the log is still open, and the exercise
+ * details echoed back in the response.
+ *
+ * @param workoutExerciseId Null if the workout exercise does not exist
+ */
+public record WorkoutLogEntryTarget(Instant logCompletedAt, UUID workoutExerciseId, String exerciseExternalId,
+        String exerciseName) {
+
+    public boolean isLogCompleted() {
+        return logCompletedAt != null;
+    }
+
+    public boolean hasWorkoutExercise() {
+        return workoutExerciseId != null;
+    }
+}
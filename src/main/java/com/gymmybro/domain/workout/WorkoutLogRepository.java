@@ -29,6 +29,25 @@ public interface WorkoutLogRepository extends JpaRepository<WorkoutLog, UUID> {
      */
     Optional<WorkoutLog> findByTraineeIdAndWorkoutDate(UUID traineeId, LocalDate workoutDate);
 
+    /**
+     * Lock the trainee's user row until the transaction ends, so requests that
+     * create or merge a trainee's log for a date run one after another
+     */
+    @Query(value = "SELECT id FROM users WHERE id = :traineeId FOR UPDATE", nativeQuery = true)
+    Optional<UUID> lockTrainee(@Param("traineeId") UUID traineeId);
+
+    /**
+     * Completion state of a log and the workout exercise an entry is appended for,
+     * in one statement; empty if the log does not exist
+     */
+    @Query("SELECT new com.gymmybro.domain.workout.WorkoutLogEntryTarget(" +
+            "wl.completedAt, we.id, we.exerciseExternalId, we.exerciseName) " +
+            "FROM WorkoutLog wl " +
+            "LEFT JOIN WorkoutExercise we ON we.id = :workoutExerciseId " +
+            "WHERE wl.id = :logId")
+    Optional<WorkoutLogEntryTarget> findEntryTarget(@Param("logId") UUID logId,
+            @Param("workoutExerciseId") UUID workoutExerciseId);
+
     /**
      * Find logs within a date range
      */
@@ -168,6 +168,24 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
 
+        /**
+         * Handle ServiceUnavailableException (503)
+         */
+        @ExceptionHandler(ServiceUnavailableException.class)
+        public ResponseEntity<ApiError> handleServiceUnavailable(
+                        ServiceUnavailableException ex, HttpServletRequest request) {
+                log.warn("Service unavailable: {}", ex.getMessage());
+
+                ApiError error = ApiError.builder()
+                                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                                .error("SERVICE_UNAVAILABLE")
+                                .message(ex.getMessage())
+                                .path(request.getRequestURI())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
+
         /**
          * Handle validation errors from @Valid (400)
          */
@@ -0,0 +1,126 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.request.ExerciseFacetQuery;
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.service.ExerciseCatalogIndex;
+import com.gymmybro.application.service.ExerciseProvider;
+import com.gymmybro.config.ExerciseProviderConfig;
+import com.gymmybro.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ExerciseProvider backed by the in-process exercise catalog.
+ * Answers every read from the current snapshot; ExerciseDB is only called
+ * while the first snapshot is still loading (or the catalog is disabled).
+ * Index-only queries (e.g. multi-facet search) need a loaded snapshot.
+ */
+@Component
+@Primary
+public class CatalogExerciseProvider implements ExerciseProvider, ExerciseCatalogIndex {
+
+    private final ExerciseCatalog catalog;
+    private final ExerciseProvider upstream;
+
+    public CatalogExerciseProvider(ExerciseCatalog catalog,
+            @Qualifier(ExerciseProviderConfig.UPSTREAM) ExerciseProvider upstream) {
+        this.catalog = catalog;
+        this.upstream = upstream;
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> fetchAllExercises(int limit, int offset) {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        return snapshot.isPresent()
+                ? snapshot.get().slice(limit, offset)
+                : upstream.fetchAllExercises(limit, offset);
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> searchByName(String name) {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        return snapshot.isPresent() ? snapshot.get().searchByName(name) : upstream.searchByName(name);
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> filterByBodyPart(String bodyPart) {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        return snapshot.isPresent() ? snapshot.get().filterByBodyPart(bodyPart) : upstream.filterByBodyPart(bodyPart);
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> filterByTarget(String target) {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        return snapshot.isPresent() ? snapshot.get().filterByTarget(target) : upstream.filterByTarget(target);
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> filterByEquipment(String equipment) {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        return snapshot.isPresent()
+                ? snapshot.get().filterByEquipment(equipment)
+                : upstream.filterByEquipment(equipment);
+    }
+
+    @Override
+    public List<String> getBodyParts() {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        return snapshot.isPresent() ? snapshot.get().getBodyParts() : upstream.getBodyParts();
+    }
+
+    @Override
+    public List<String> getTargets() {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        return snapshot.isPresent() ? snapshot.get().getTargets() : upstream.getTargets();
+    }
+
+    @Override
+    public List<String> getEquipment() {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        return snapshot.isPresent() ? snapshot.get().getEquipment() : upstream.getEquipment();
+    }
+
+    /**
+     * The snapshot holds the full catalog, so a miss is authoritative and
+     * does not fall through to ExerciseDB.
+     */
+    @Override
+    public ExerciseDbApiResponse getExerciseById(String externalId) {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        return snapshot.isPresent() ? snapshot.get().findById(externalId) : upstream.getExerciseById(externalId);
+    }
+
+    @Override
+    public Map<String, ExerciseDbApiResponse> getExercisesByIds(Collection<String> externalIds) {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        return snapshot.isPresent() ? snapshot.get().findByIds(externalIds) : upstream.getExercisesByIds(externalIds);
+    }
+
+    @Override
+    public FacetResult searchByFacets(ExerciseFacetQuery query) {
+        return requireSnapshot().searchByFacets(query);
+    }
+
+    @Override
+    public Optional<Listing> list(String name) {
+        return catalog.current().map(snapshot -> new Listing(snapshot.getVersion(),
+                name == null || name.isBlank() ? snapshot.getExercises() : snapshot.searchByName(name)));
+    }
+
+    @Override
+    public Optional<List<Substitute>> findSubstitutes(String externalId, int limit,
+            Collection<String> excludedEquipment) {
+        return requireSnapshot().findSubstitutes(externalId, limit, excludedEquipment);
+    }
+
+    private ExerciseCatalogSnapshot requireSnapshot() {
+        return catalog.current()
+                .orElseThrow(() -> new ServiceUnavailableException("Exercise catalog is not loaded yet"));
+    }
+}
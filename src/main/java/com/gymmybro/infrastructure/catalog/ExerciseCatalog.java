@@ -0,0 +1,179 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.dto.response.ExerciseSyncResponse;
+import com.gymmybro.config.ExerciseDbConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the in-process exercise catalog.
+ * The catalog is persisted in the exercises table: at startup the stored copy
+ * is published right away, then ExerciseDB is synced periodically in the
+ * background and a new immutable snapshot is swapped in atomically whenever
+ * the sync changed anything. If ExerciseDB is unavailable, reads keep being
+ * served from the stored copy. Each published snapshot is also written to a
+ * local file so the next boot can serve reads before touching the database.
+ */
+@Component
+@Slf4j
+public class ExerciseCatalog {
+
+    private final ExerciseCatalogStore store;
+    private final ExerciseDbConfig.Catalog settings;
+    private final ExerciseCatalogSnapshotFile snapshotFile;
+
+    private final AtomicReference<ExerciseCatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final CompletableFuture<ExerciseCatalogSnapshot> firstSnapshot = new CompletableFuture<>();
+
+    /**
+     * When the current snapshot was restored from disk, the time that file was written.
+     */
+    private volatile Instant restoredFileWrittenAt;
+
+    public ExerciseCatalog(ExerciseCatalogStore store, ExerciseDbConfig config) {
+        this.store = store;
+        this.settings = config.getCatalog();
+        this.snapshotFile = settings.getSnapshotFile() != null && !settings.getSnapshotFile().isBlank()
+                ? new ExerciseCatalogSnapshotFile(Path.of(settings.getSnapshotFile()))
+                : null;
+    }
+
+    /**
+     * Publish the on-disk snapshot, if there is a compatible one, before the
+     * application starts taking traffic. The scheduled refresh then syncs
+     * with ExerciseDB in the background.
+     */
+    @PostConstruct
+    void loadSnapshotFile() {
+        if (!settings.isEnabled() || snapshotFile == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        snapshotFile.read().ifPresent(restored -> {
+            ExerciseCatalogSnapshot loaded = restored.snapshot();
+            versions.set(loaded.getVersion());
+            snapshot.set(loaded);
+            restoredFileWrittenAt = restored.writtenAt();
+            firstSnapshot.complete(loaded);
+            log.info("Exercise catalog v{} restored from {}: {} exercises in {} ms",
+                    loaded.getVersion(), snapshotFile.getPath(), loaded.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        });
+    }
+
+    /**
+     * Current snapshot, or empty while the first load has not completed.
+     */
+    public Optional<ExerciseCatalogSnapshot> current() {
+        return settings.isEnabled() ? Optional.ofNullable(snapshot.get()) : Optional.empty();
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    /**
+     * Completes with the first snapshot published by this process.
+     */
+    public CompletableFuture<ExerciseCatalogSnapshot> whenLoaded() {
+        return firstSnapshot.copy();
+    }
+
+    /**
+     * Periodic background refresh. Runs once at startup and then at the
+     * configured interval; failures keep the previous snapshot in place.
+     * The startup run is skipped when the restored snapshot file is younger
+     * than the refresh interval, so rolling deploys do not re-read ExerciseDB.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${exercisedb.catalog.refresh-interval:PT6H}")
+    public void scheduledRefresh() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        Instant restoredAt = restoredFileWrittenAt;
+        if (restoredAt != null && restoredAt.plus(settings.getRefreshInterval()).isAfter(Instant.now())) {
+            log.info("Restored exercise catalog was written at {}; next sync in {}",
+                    restoredAt, settings.getRefreshInterval());
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Exercise catalog refresh failed, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sync the stored catalog with ExerciseDB and publish a new snapshot if it changed.
+     * When nothing is loaded yet, the stored catalog is published before syncing.
+     *
+     * @return The sync result, or empty if a refresh was already running
+     */
+    public Optional<ExerciseSyncResponse> refresh() {
+        if (!refreshLock.tryLock()) {
+            log.debug("Exercise catalog refresh already in progress");
+            return Optional.empty();
+        }
+        try {
+            if (snapshot.get() == null && !store.isEmpty()) {
+                publishStored();
+            }
+
+            // Runs after the stored copy is published, so a failing ExerciseDB does not delay reads
+            ExerciseSyncResponse result = store.sync();
+
+            // A snapshot restored from disk may predate the stored catalog, so reload it once
+            if (snapshot.get() == null || restoredFileWrittenAt != null || result.hasChanges()) {
+                publishStored();
+            }
+            result.setCatalogVersion(snapshot.get().getVersion());
+            return Optional.of(result);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void publishStored() {
+        long started = System.nanoTime();
+        List<ExerciseDbApiResponse> records = store.loadAll();
+
+        if (records.isEmpty()) {
+            throw new IllegalStateException("Stored exercise catalog is empty");
+        }
+
+        ExerciseCatalogSnapshot next = ExerciseCatalogSnapshot.of(versions.incrementAndGet(), records,
+                null, null, null);
+        publish(next);
+        log.info("Exercise catalog v{} loaded: {} exercises in {} ms",
+                next.getVersion(), next.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void publish(ExerciseCatalogSnapshot next) {
+        snapshot.set(next);
+        restoredFileWrittenAt = null;
+        firstSnapshot.complete(next);
+
+        if (snapshotFile != null) {
+            try {
+                snapshotFile.write(next);
+            } catch (IOException e) {
+                log.warn("Could not write catalog snapshot file {}: {}", snapshotFile.getPath(), e.getMessage());
+            }
+        }
+    }
+}
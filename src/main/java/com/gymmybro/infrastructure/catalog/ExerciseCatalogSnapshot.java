@@ -0,0 +1,252 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.request.ExerciseFacetQuery;
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.service.ExerciseCatalogIndex;
+import com.gymmybro.infrastructure.catalog.FacetIndex.Facet;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable, fully indexed view of the exercise catalog.
+ * A new snapshot is built on every refresh and swapped in atomically,
+ * so readers never observe a partially loaded catalog.
+ */
+public final class ExerciseCatalogSnapshot {
+
+    private final long version;
+    private final Instant loadedAt;
+    private final List<ExerciseDbApiResponse> exercises;
+    private final Map<String, Integer> ordinalById;
+    private final List<String> bodyParts;
+    private final List<String> targets;
+    private final List<String> equipment;
+    private final FacetIndex facetIndex;
+    private final NameSearchIndex nameIndex;
+    private final SimilarityIndex similarityIndex;
+
+    private ExerciseCatalogSnapshot(long version, List<ExerciseDbApiResponse> exercises,
+            List<String> bodyParts, List<String> targets, List<String> equipment) {
+        this.version = version;
+        this.loadedAt = Instant.now();
+        this.exercises = exercises;
+        this.bodyParts = bodyParts;
+        this.targets = targets;
+        this.equipment = equipment;
+
+        Map<String, Integer> ids = new LinkedHashMap<>();
+        for (int i = 0; i < exercises.size(); i++) {
+            ids.putIfAbsent(exercises.get(i).getId(), i);
+        }
+        this.ordinalById = Collections.unmodifiableMap(ids);
+        this.facetIndex = FacetIndex.build(exercises);
+        this.nameIndex = NameSearchIndex.build(exercises);
+        this.similarityIndex = SimilarityIndex.build(exercises);
+    }
+
+    /**
+     * Build a snapshot from raw ExerciseDB records.
+     * Metadata lists fall back to the distinct values found in the records
+     * when ExerciseDB did not return them.
+     */
+    public static ExerciseCatalogSnapshot of(long version, List<ExerciseDbApiResponse> records,
+            List<String> bodyParts, List<String> targets, List<String> equipment) {
+        Map<String, ExerciseDbApiResponse> unique = new LinkedHashMap<>();
+        for (ExerciseDbApiResponse record : records) {
+            if (record != null && record.getId() != null) {
+                unique.putIfAbsent(record.getId(), copyOf(record));
+            }
+        }
+        List<ExerciseDbApiResponse> exercises = List.copyOf(unique.values());
+
+        return new ExerciseCatalogSnapshot(version, exercises,
+                metadataOrDistinct(bodyParts, exercises, ExerciseDbApiResponse::getBodyParts),
+                metadataOrDistinct(targets, exercises, ExerciseDbApiResponse::getTargetMuscles),
+                metadataOrDistinct(equipment, exercises, ExerciseDbApiResponse::getEquipments));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public int size() {
+        return exercises.size();
+    }
+
+    public List<ExerciseDbApiResponse> getExercises() {
+        return exercises;
+    }
+
+    public List<String> getBodyParts() {
+        return bodyParts;
+    }
+
+    public List<String> getTargets() {
+        return targets;
+    }
+
+    public List<String> getEquipment() {
+        return equipment;
+    }
+
+    public ExerciseDbApiResponse findById(String externalId) {
+        Integer ordinal = ordinalById.get(externalId);
+        return ordinal != null ? exercises.get(ordinal) : null;
+    }
+
+    /**
+     * Look up several exercises; unknown IDs are left out of the result.
+     */
+    public Map<String, ExerciseDbApiResponse> findByIds(Collection<String> externalIds) {
+        Map<String, ExerciseDbApiResponse> found = new LinkedHashMap<>();
+        for (String externalId : externalIds) {
+            ExerciseDbApiResponse exercise = findById(externalId);
+            if (exercise != null) {
+                found.putIfAbsent(externalId, exercise);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Return a window of the catalog in load order.
+     */
+    public List<ExerciseDbApiResponse> slice(int limit, int offset) {
+        if (offset >= exercises.size() || limit <= 0) {
+            return List.of();
+        }
+        int from = Math.max(offset, 0);
+        return exercises.subList(from, Math.min(exercises.size(), from + limit));
+    }
+
+    /**
+     * Ranked, typo-tolerant search over names and secondary muscles.
+     */
+    public List<ExerciseDbApiResponse> searchByName(String name) {
+        return nameIndex.search(name);
+    }
+
+    public List<ExerciseDbApiResponse> filterByBodyPart(String bodyPart) {
+        return select(facetIndex.postings(Facet.BODY_PART, bodyPart));
+    }
+
+    public List<ExerciseDbApiResponse> filterByTarget(String target) {
+        return select(facetIndex.postings(Facet.TARGET, target));
+    }
+
+    public List<ExerciseDbApiResponse> filterByEquipment(String equipment) {
+        return select(facetIndex.postings(Facet.EQUIPMENT, equipment));
+    }
+
+    /**
+     * Evaluate a multi-facet filter against the bitset index.
+     * Facets without values do not constrain the result.
+     */
+    public ExerciseCatalogIndex.FacetResult searchByFacets(ExerciseFacetQuery query) {
+        BitSet selection = null;
+
+        for (BitSet facetBits : new BitSet[] {
+                facetIndex.anyOf(Facet.BODY_PART, query.getBodyParts()),
+                facetIndex.anyOf(Facet.TARGET, query.getTargets()),
+                facetIndex.anyOf(Facet.EQUIPMENT, query.getEquipment()) }) {
+            if (facetBits == null) {
+                continue;
+            }
+            if (selection == null) {
+                selection = facetBits;
+            } else if (query.isMatchAll()) {
+                selection.and(facetBits);
+            } else {
+                selection.or(facetBits);
+            }
+        }
+
+        if (selection == null) {
+            selection = facetIndex.all();
+        }
+
+        return new ExerciseCatalogIndex.FacetResult(select(selection), facetIndex.counts(selection));
+    }
+
+    /**
+     * Exercises most similar to {@code externalId}, best first.
+     *
+     * @return Up to {@code limit} substitutes, or empty if the exercise is not in the catalog
+     */
+    public Optional<List<ExerciseCatalogIndex.Substitute>> findSubstitutes(String externalId, int limit,
+            Collection<String> excludedEquipment) {
+        Integer ordinal = ordinalById.get(externalId);
+        if (ordinal == null) {
+            return Optional.empty();
+        }
+        return Optional.of(similarityIndex.topSimilar(ordinal, limit, excludedEquipment).stream()
+                .map(match -> new ExerciseCatalogIndex.Substitute(exercises.get(match.ordinal()), match.similarity()))
+                .toList());
+    }
+
+    private List<ExerciseDbApiResponse> select(BitSet ordinals) {
+        List<ExerciseDbApiResponse> result = new ArrayList<>(ordinals.cardinality());
+        for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+            result.add(exercises.get(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> metadataOrDistinct(List<String> metadata, List<ExerciseDbApiResponse> exercises,
+            Function<ExerciseDbApiResponse, List<String>> facet) {
+        if (metadata != null && !metadata.isEmpty()) {
+            return metadata.stream().filter(Objects::nonNull).toList();
+        }
+        Set<String> distinct = new LinkedHashSet<>();
+        exercises.forEach(e -> distinct.addAll(facet.apply(e)));
+        return List.copyOf(distinct);
+    }
+
+    private static ExerciseDbApiResponse copyOf(ExerciseDbApiResponse source) {
+        return ExerciseDbApiResponse.builder()
+                .id(source.getId())
+                .name(source.getName())
+                .targetMuscles(immutable(source.getTargetMuscles()))
+                .bodyParts(immutable(source.getBodyParts()))
+                .equipments(immutable(source.getEquipments()))
+                .imageUrl(source.getImageUrl())
+                .exerciseType(source.getExerciseType())
+                .secondaryMuscles(immutable(source.getSecondaryMuscles()))
+                .instructions(immutable(source.getInstructions()))
+                .build();
+    }
+
+    private static List<String> immutable(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        List<String> copy = new ArrayList<>(values.size());
+        for (String value : values) {
+            if (value != null) {
+                copy.add(value);
+            }
+        }
+        return List.copyOf(copy);
+    }
+}
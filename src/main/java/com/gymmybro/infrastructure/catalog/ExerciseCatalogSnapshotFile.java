@@ -0,0 +1,234 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Binary on-disk copy of a catalog snapshot, used for warm starts.
+ *
+ * <p>Layout (big-endian):
+ * <pre>
+ * int   magic          'GBEX'
+ * int   formatVersion
+ * long  catalogVersion
+ * long  writtenAt      epoch millis
+ * int   payloadLength
+ * long  payloadCrc32
+ * ...   payload: metadata lists, record count, records
+ * </pre>
+ * Strings are an int byte length (-1 for null) followed by UTF-8 bytes;
+ * lists are an int size followed by their strings. The file is read through
+ * a read-only memory map; indexes are rebuilt from the records on load.
+ * Files with another magic or format version are ignored and overwritten by
+ * the next publish.
+ */
+@Slf4j
+final class ExerciseCatalogSnapshotFile {
+
+    private static final int MAGIC = 0x47424558;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4 + 8;
+
+    private final Path path;
+
+    ExerciseCatalogSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Read the snapshot file, if present and compatible.
+     */
+    Optional<Restored> read() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                log.warn("Ignoring truncated catalog snapshot file {}", path);
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            int magic = buffer.getInt();
+            int formatVersion = buffer.getInt();
+            if (magic != MAGIC || formatVersion != FORMAT_VERSION) {
+                log.info("Catalog snapshot file {} has format {} (expected {}); it will be rebuilt",
+                        path, formatVersion, FORMAT_VERSION);
+                return Optional.empty();
+            }
+            long catalogVersion = buffer.getLong();
+            Instant writtenAt = Instant.ofEpochMilli(buffer.getLong());
+            int payloadLength = buffer.getInt();
+            long payloadCrc = buffer.getLong();
+
+            if (payloadLength != buffer.remaining()) {
+                log.warn("Ignoring catalog snapshot file {}: payload length mismatch", path);
+                return Optional.empty();
+            }
+            ByteBuffer payload = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if (crc.getValue() != payloadCrc) {
+                log.warn("Ignoring catalog snapshot file {}: checksum mismatch", path);
+                return Optional.empty();
+            }
+
+            List<String> bodyParts = readList(payload);
+            List<String> targets = readList(payload);
+            List<String> equipment = readList(payload);
+            int count = payload.getInt();
+            List<ExerciseDbApiResponse> records = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                records.add(readRecord(payload));
+            }
+
+            return Optional.of(new Restored(
+                    ExerciseCatalogSnapshot.of(catalogVersion, records, bodyParts, targets, equipment), writtenAt));
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            log.warn("Could not read catalog snapshot file {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write the snapshot to a temporary file and move it into place, so a
+     * reader never sees a partially written file.
+     */
+    void write(ExerciseCatalogSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(snapshot.size() * 512);
+        DataOutputStream payload = new DataOutputStream(bytes);
+        writeList(payload, snapshot.getBodyParts());
+        writeList(payload, snapshot.getTargets());
+        writeList(payload, snapshot.getEquipment());
+        payload.writeInt(snapshot.size());
+        for (ExerciseDbApiResponse record : snapshot.getExercises()) {
+            writeRecord(payload, record);
+        }
+        payload.flush();
+
+        byte[] body = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(snapshot.getVersion())
+                .putLong(System.currentTimeMillis())
+                .putInt(body.length)
+                .putLong(crc.getValue())
+                .flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer[] buffers = { header, ByteBuffer.wrap(body) };
+                while (buffers[1].hasRemaining()) {
+                    channel.write(buffers);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    record Restored(ExerciseCatalogSnapshot snapshot, Instant writtenAt) {
+    }
+
+    private static void writeRecord(DataOutputStream out, ExerciseDbApiResponse record) throws IOException {
+        writeString(out, record.getId());
+        writeString(out, record.getName());
+        writeString(out, record.getImageUrl());
+        writeString(out, record.getExerciseType());
+        writeList(out, record.getBodyParts());
+        writeList(out, record.getTargetMuscles());
+        writeList(out, record.getEquipments());
+        writeList(out, record.getSecondaryMuscles());
+        writeList(out, record.getInstructions());
+    }
+
+    private static ExerciseDbApiResponse readRecord(ByteBuffer in) {
+        return ExerciseDbApiResponse.builder()
+                .id(readString(in))
+                .name(readString(in))
+                .imageUrl(readString(in))
+                .exerciseType(readString(in))
+                .bodyParts(readList(in))
+                .targetMuscles(readList(in))
+                .equipments(readList(in))
+                .secondaryMuscles(readList(in))
+                .instructions(readList(in))
+                .build();
+    }
+
+    private static void writeList(DataOutputStream out, List<String> values) throws IOException {
+        List<String> list = values != null ? values : List.of();
+        out.writeInt(list.size());
+        for (String value : list) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readList(ByteBuffer in) {
+        int size = in.getInt();
+        if (size < 0 || size > in.remaining()) {
+            throw new IllegalArgumentException("corrupt list size " + size);
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("corrupt string length " + length);
+        }
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,362 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.dto.response.ExerciseSyncResponse;
+import com.gymmybro.config.ExerciseDbConfig;
+import com.gymmybro.domain.exercise.Exercise;
+import com.gymmybro.domain.exercise.ExerciseRepository;
+import com.gymmybro.infrastructure.external.ExerciseDbPriority;
+import com.gymmybro.infrastructure.external.ExerciseDbQuota;
+import com.gymmybro.infrastructure.external.ReactiveExerciseDbClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Persistent copy of the ExerciseDB catalog in the exercises table.
+ * A sync pages through ExerciseDB and only writes records whose content hash
+ * changed, so repeated runs cost one upstream read and a handful of upserts.
+ * Pages are requested in parallel, at most {@code ingest-concurrency} at a
+ * time (fewer when the background quota is low), and streamed into the
+ * merge strictly in page order, so only pages waiting behind the one being
+ * merged are buffered; a failed page is retried on its own without
+ * restarting the sync.
+ */
+@Component
+@Slf4j
+public class ExerciseCatalogStore {
+
+    private static final int WRITE_BATCH = 200;
+    private static final int STREAM_PREFETCH = 64;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+
+    private final ReactiveExerciseDbClient upstream;
+    private final ExerciseDbQuota quota;
+    private final ExerciseRepository exerciseRepository;
+    private final ExerciseDbConfig.Catalog settings;
+
+    public ExerciseCatalogStore(ReactiveExerciseDbClient upstream, ExerciseDbQuota quota,
+            ExerciseRepository exerciseRepository, ExerciseDbConfig config) {
+        this.upstream = upstream;
+        this.quota = quota;
+        this.exerciseRepository = exerciseRepository;
+        this.settings = config.getCatalog();
+    }
+
+    public boolean isEmpty() {
+        return exerciseRepository.count() == 0;
+    }
+
+    /**
+     * Load the stored catalog in ID order.
+     */
+    @Transactional(readOnly = true)
+    public List<ExerciseDbApiResponse> loadAll() {
+        return exerciseRepository.findAllByOrderByExternalIdAsc().stream()
+                .map(ExerciseCatalogStore::toApiResponse)
+                .toList();
+    }
+
+    /**
+     * Page through ExerciseDB and apply the delta to the exercises table.
+     * Rows missing upstream are removed only when every page was read.
+     *
+     * @throws IllegalStateException if ExerciseDB returned no exercises
+     */
+    public ExerciseSyncResponse sync() {
+        long started = System.nanoTime();
+        int pageSize = Math.min(Math.max(settings.getPageSize(), 1), 1000);
+
+        Map<String, String> storedHashes = new HashMap<>();
+        exerciseRepository.findAllContentHashes()
+                .forEach(row -> storedHashes.put(row.getExternalId(), row.getContentHash()));
+
+        Integer total = upstream.fetchCatalogSize()
+                .contextWrite(ExerciseDbPriority.BACKGROUND::writeTo)
+                .onErrorResume(e -> Mono.empty())
+                .block();
+        // With a known size only the needed pages are requested; otherwise pages are fetched until a short one
+        int pageLimit = total != null
+                ? Math.min(Math.max((total + pageSize - 1) / pageSize, 1), settings.getMaxPages())
+                : settings.getMaxPages();
+        int concurrency = Math.max(1, Math.min(settings.getIngestConcurrency(), quota.backgroundAllowance()));
+        log.info("Exercise sync started: {} exercises reported, up to {} pages of {}, {} in flight",
+                total != null ? total : "unknown", pageLimit, pageSize, concurrency);
+
+        Delta delta = new Delta(storedHashes, pageSize, pageLimit, total, started);
+        AtomicInteger retries = new AtomicInteger();
+        ingest(0, pageLimit, pageSize, concurrency, delta, retries);
+        if (total != null && delta.lastPageFull && pageLimit < settings.getMaxPages()) {
+            // The catalog grew since its size was read, or its size is an exact multiple of the page size;
+            // keep paging up to the cap until a short (possibly empty) page
+            delta.pageLimit = settings.getMaxPages();
+            ingest(pageLimit, settings.getMaxPages(), pageSize, concurrency, delta, retries);
+        } else if (total != null && delta.lastPageFull && delta.fetched >= total) {
+            // Every reported exercise was read and the cap leaves no page to probe past the end
+            delta.reachedEnd = true;
+        }
+        delta.flush();
+
+        if (delta.seen.isEmpty()) {
+            throw new IllegalStateException("ExerciseDB returned an empty catalog");
+        }
+        boolean complete = delta.reachedEnd && delta.failedPages == 0;
+        if (!complete) {
+            log.warn("Exercise sync incomplete ({} pages failed, end {}reached, {} exercises); skipping removals",
+                    delta.failedPages, delta.reachedEnd ? "" : "not ", delta.seen.size());
+        }
+
+        int removed = 0;
+        if (complete && !delta.seen.containsAll(storedHashes.keySet())) {
+            removed = exerciseRepository.deleteByExternalIdNotIn(delta.seen);
+        }
+
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        ExerciseSyncResponse result = ExerciseSyncResponse.builder()
+                .fetched(delta.fetched)
+                .inserted(delta.inserted)
+                .updated(delta.updated)
+                .unchanged(delta.unchanged)
+                .removed(removed)
+                .pages(delta.pages)
+                .retries(retries.get())
+                .failedPages(delta.failedPages)
+                .complete(complete)
+                .durationMs(durationMs)
+                .exercisesPerSecond(throughput(delta.fetched, durationMs))
+                .build();
+        log.info("Exercise sync: {} fetched, {} inserted, {} updated, {} unchanged, {} removed in {} ms "
+                + "({} pages, {} retries, {} exercises/s)", delta.fetched, delta.inserted, delta.updated,
+                delta.unchanged, removed, durationMs, delta.pages, retries.get(), result.getExercisesPerSecond());
+        return result;
+    }
+
+    /**
+     * Stream pages {@code [firstPage, pageLimit)} into the delta in page order
+     * until a short page marks the end of the catalog. Up to
+     * {@code concurrency} pages are requested at once; records of the page
+     * being merged flow straight through, and only the pages queued behind it
+     * are buffered (at most one page each). Each page is a non-blocking
+     * WebClient call, so the parallelism comes from flatMapSequential
+     * subscriptions and needs no thread per page.
+     */
+    private void ingest(int firstPage, int pageLimit, int pageSize, int concurrency, Delta delta,
+            AtomicInteger retries) {
+        Flux<PageItem> items = Flux.range(firstPage, pageLimit - firstPage)
+                .flatMapSequential(page -> fetchPage(page, pageSize, retries), concurrency, pageSize)
+                .contextWrite(ExerciseDbPriority.BACKGROUND::writeTo);
+
+        // Consumed on this thread, so write batches never run on a network thread;
+        // closing the stream cancels the pages still in flight
+        try (Stream<PageItem> stream = items.toStream(STREAM_PREFETCH)) {
+            Iterator<PageItem> iterator = stream.iterator();
+            while (iterator.hasNext() && !delta.reachedEnd) {
+                delta.accept(iterator.next());
+            }
+        }
+    }
+
+    /**
+     * Stream one page followed by its end marker. A failed attempt is retried
+     * with exponential backoff, skipping the records already passed on.
+     */
+    private Flux<PageItem> fetchPage(int page, int pageSize, AtomicInteger retries) {
+        AtomicInteger emitted = new AtomicInteger();
+        return Flux.defer(() -> upstream.fetchAllExercises(pageSize, page * pageSize).skip(emitted.get()))
+                .doOnNext(record -> emitted.incrementAndGet())
+                .map(record -> new PageItem(page, record, false))
+                .retryWhen(Retry.backoff(settings.getPageRetries(), RETRY_BACKOFF)
+                        .doBeforeRetry(signal -> {
+                            retries.incrementAndGet();
+                            log.debug("Exercise page {} failed, retrying: {}", page, signal.failure().getMessage());
+                        }))
+                .concatWith(Mono.fromSupplier(() -> new PageItem(page, null, false)))
+                .onErrorResume(e -> {
+                    log.warn("Exercise page {} failed after {} attempts: {}", page, settings.getPageRetries() + 1,
+                            (Exceptions.isRetryExhausted(e) ? e.getCause() : e).getMessage());
+                    return Mono.just(new PageItem(page, null, true));
+                });
+    }
+
+    private static void logProgress(int page, int pageLimit, Integer total, int fetched, long started) {
+        long elapsedMs = Math.max((System.nanoTime() - started) / 1_000_000, 1);
+        log.info("Exercise sync progress: page {}/{}, {}/{} exercises, {} exercises/s", page + 1, pageLimit,
+                fetched, total != null ? total : "?", throughput(fetched, elapsedMs));
+    }
+
+    private static double throughput(int exercises, long elapsedMs) {
+        return elapsedMs > 0 ? Math.round(exercises * 10_000.0 / elapsedMs) / 10.0 : exercises;
+    }
+
+    /**
+     * One exercise of a page, or the end of the page when {@code exercise} is null.
+     */
+    private record PageItem(int page, ExerciseDbApiResponse exercise, boolean failed) {
+    }
+
+    /**
+     * Applies pages, in page order, to the exercises table in write batches.
+     */
+    private final class Delta {
+
+        private final Map<String, String> storedHashes;
+        private final int pageSize;
+        private final Integer total;
+        private final long started;
+        private final Set<String> seen = new HashSet<>();
+        private final List<Exercise> changed = new ArrayList<>();
+        private int pageLimit;
+        private int pageRecords;
+        private int pages;
+        private int failedPages;
+        private boolean reachedEnd;
+        private boolean lastPageFull;
+        private int fetched;
+        private int inserted;
+        private int updated;
+        private int unchanged;
+
+        private Delta(Map<String, String> storedHashes, int pageSize, int pageLimit, Integer total, long started) {
+            this.storedHashes = storedHashes;
+            this.pageSize = pageSize;
+            this.pageLimit = pageLimit;
+            this.total = total;
+            this.started = started;
+        }
+
+        void accept(PageItem item) {
+            if (item.exercise() != null) {
+                pageRecords++;
+                merge(item.exercise());
+                return;
+            }
+
+            if (item.failed()) {
+                failedPages++;
+                lastPageFull = false;
+            } else {
+                pages++;
+                lastPageFull = pageRecords >= pageSize;
+                reachedEnd = !lastPageFull;
+                logProgress(item.page(), pageLimit, total, fetched, started);
+            }
+            pageRecords = 0;
+        }
+
+        private void merge(ExerciseDbApiResponse record) {
+            fetched++;
+            if (record.getId() == null || !seen.add(record.getId())) {
+                return;
+            }
+            String hash = contentHash(record);
+            String storedHash = storedHashes.get(record.getId());
+            if (hash.equals(storedHash)) {
+                unchanged++;
+                return;
+            }
+            if (storedHash == null) {
+                inserted++;
+            } else {
+                updated++;
+            }
+            changed.add(toEntity(record, hash));
+
+            if (changed.size() >= WRITE_BATCH) {
+                flush();
+            }
+        }
+
+        void flush() {
+            exerciseRepository.upsertAll(changed);
+            changed.clear();
+        }
+    }
+
+    static ExerciseDbApiResponse toApiResponse(Exercise exercise) {
+        return ExerciseDbApiResponse.builder()
+                .id(exercise.getExternalId())
+                .name(exercise.getName())
+                .imageUrl(exercise.getImageUrl())
+                .exerciseType(exercise.getExerciseType())
+                .bodyParts(exercise.getBodyParts())
+                .targetMuscles(exercise.getTargetMuscles())
+                .equipments(exercise.getEquipments())
+                .secondaryMuscles(exercise.getSecondaryMuscles())
+                .instructions(exercise.getInstructions())
+                .build();
+    }
+
+    private static Exercise toEntity(ExerciseDbApiResponse record, String hash) {
+        return Exercise.builder()
+                .externalId(record.getId())
+                .name(record.getName() != null ? record.getName() : record.getId())
+                .imageUrl(record.getImageUrl())
+                .exerciseType(record.getExerciseType())
+                .bodyParts(listOrEmpty(record.getBodyParts()))
+                .targetMuscles(listOrEmpty(record.getTargetMuscles()))
+                .equipments(listOrEmpty(record.getEquipments()))
+                .secondaryMuscles(listOrEmpty(record.getSecondaryMuscles()))
+                .instructions(listOrEmpty(record.getInstructions()))
+                .contentHash(hash)
+                .build();
+    }
+
+    /**
+     * SHA-256 over every stored field, with separators that cannot occur in the data.
+     */
+    static String contentHash(ExerciseDbApiResponse record) {
+        StringBuilder content = new StringBuilder();
+        append(content, record.getId());
+        append(content, record.getName());
+        append(content, record.getImageUrl());
+        append(content, record.getExerciseType());
+        append(content, record.getBodyParts());
+        append(content, record.getTargetMuscles());
+        append(content, record.getEquipments());
+        append(content, record.getSecondaryMuscles());
+        append(content, record.getInstructions());
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void append(StringBuilder content, String value) {
+        content.append(value != null ? value : "").append('\u001e');
+    }
+
+    private static void append(StringBuilder content, List<String> values) {
+        if (values != null) {
+            for (String value : values) {
+                content.append(value != null ? value : "").append('\u001f');
+            }
+        }
+        content.append('\u001e');
+    }
+
+    private static List<String> listOrEmpty(List<String> values) {
+        return values != null ? new ArrayList<>(values) : new ArrayList<>();
+    }
+}
@@ -0,0 +1,174 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pre-serialized JSON for the exercise metadata endpoints.
+ *
+ * <p>Body parts, targets and equipment are rendered to bytes once per catalog
+ * snapshot, together with a strong ETag derived from the bytes, so unchanged
+ * lists keep their ETag across refreshes and restarts. Rendering happens on
+ * the first request after a new snapshot is published.
+ *
+ * <p>Category queries ({@code ?q=}) are substring matches, answered from a
+ * sorted array of every lowercase suffix of every body part: the suffixes
+ * starting with the query are exactly the body parts containing it.
+ */
+@Component
+public class ExerciseMetadataDocuments {
+
+    /**
+     * Metadata lists held by a catalog snapshot.
+     */
+    public enum MetadataList {
+        BODY_PARTS,
+        TARGETS,
+        EQUIPMENT
+    }
+
+    /**
+     * A rendered JSON document and its strong ETag.
+     */
+    public record Document(byte[] body, String etag) {
+    }
+
+    private final ExerciseCatalog catalog;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Rendered> rendered = new AtomicReference<>();
+
+    public ExerciseMetadataDocuments(ExerciseCatalog catalog, ObjectMapper objectMapper) {
+        this.catalog = catalog;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Rendered list from the current snapshot, or empty while the catalog is not loaded.
+     */
+    public Optional<Document> get(MetadataList list) {
+        return current().map(documents -> documents.lists.get(list));
+    }
+
+    /**
+     * Body parts containing {@code query} (case-insensitive), or all of them
+     * when the query is blank. Empty while the catalog is not loaded.
+     */
+    public Optional<Document> categories(String query) {
+        if (query == null || query.isBlank()) {
+            return get(MetadataList.BODY_PARTS);
+        }
+        return current().map(documents -> render(documents.categories.search(query)));
+    }
+
+    /**
+     * Render a list that does not come from the catalog snapshot.
+     */
+    public Document render(List<String> values) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(values);
+            return new Document(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize exercise metadata", e);
+        }
+    }
+
+    private Optional<Rendered> current() {
+        Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+        Rendered existing = rendered.get();
+        if (existing != null && existing.version == snapshot.get().getVersion()) {
+            return Optional.of(existing);
+        }
+        // Concurrent first requests may both render; the results are identical
+        Rendered next = renderAll(snapshot.get());
+        rendered.set(next);
+        return Optional.of(next);
+    }
+
+    private Rendered renderAll(ExerciseCatalogSnapshot snapshot) {
+        Map<MetadataList, Document> lists = new EnumMap<>(MetadataList.class);
+        lists.put(MetadataList.BODY_PARTS, render(snapshot.getBodyParts()));
+        lists.put(MetadataList.TARGETS, render(snapshot.getTargets()));
+        lists.put(MetadataList.EQUIPMENT, render(snapshot.getEquipment()));
+        return new Rendered(snapshot.getVersion(), lists, new SuffixIndex(snapshot.getBodyParts()));
+    }
+
+    private record Rendered(long version, Map<MetadataList, Document> lists, SuffixIndex categories) {
+    }
+
+    /**
+     * Substring search over a short list of names through their sorted lowercase suffixes.
+     */
+    static final class SuffixIndex {
+
+        private final List<String> values;
+        private final String[] suffixes;
+        private final int[] owners;
+
+        SuffixIndex(List<String> values) {
+            this.values = List.copyOf(values);
+
+            List<String> allSuffixes = new ArrayList<>();
+            List<Integer> allOwners = new ArrayList<>();
+            for (int i = 0; i < this.values.size(); i++) {
+                String lower = this.values.get(i).toLowerCase(Locale.ROOT);
+                for (int start = 0; start < lower.length(); start++) {
+                    allSuffixes.add(lower.substring(start));
+                    allOwners.add(i);
+                }
+            }
+
+            Integer[] order = new Integer[allSuffixes.size()];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.comparing(allSuffixes::get));
+
+            this.suffixes = new String[order.length];
+            this.owners = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                suffixes[i] = allSuffixes.get(order[i]);
+                owners[i] = allOwners.get(order[i]);
+            }
+        }
+
+        /**
+         * Values containing {@code query}, in their original order.
+         */
+        List<String> search(String query) {
+            String prefix = query.toLowerCase(Locale.ROOT);
+            BitSet matches = new BitSet(values.size());
+            for (int i = lowerBound(prefix); i < suffixes.length && suffixes[i].startsWith(prefix); i++) {
+                matches.set(owners[i]);
+            }
+            return matches.stream().mapToObj(values::get).toList();
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = suffixes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (suffixes[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
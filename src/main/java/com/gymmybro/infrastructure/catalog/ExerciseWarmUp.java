@@ -0,0 +1,138 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.service.ReactiveExerciseProvider;
+import com.gymmybro.config.ExerciseDbConfig;
+import com.gymmybro.domain.workout.WorkoutExerciseRepository;
+import com.gymmybro.infrastructure.external.ExerciseDbPriority;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Startup warm-up of the exercises used by active workout plans.
+ *
+ * <p>With the catalog enabled, reads are served once the first snapshot is
+ * published, so warm-up waits for that (at most
+ * {@code exercisedb.warm-up.catalog-wait}). Otherwise, or if the catalog does
+ * not load in time, the exercises referenced by actively assigned plans and
+ * the body part, target and equipment lists are prefetched through the
+ * reactive exercise provider, so they land in the ExerciseDB response cache
+ * its fallback reads from. Exercises are fetched in batches (each batch with
+ * at most {@code exercisedb.batch-concurrency} requests in flight) in the
+ * background quota lane.
+ *
+ * <p>As a health indicator in the readiness group it reports OUT_OF_SERVICE
+ * until warm-up completes or {@code exercisedb.warm-up.timeout} passes;
+ * after a timeout the prefetch carries on in the background.
+ */
+@Component
+@Slf4j
+public class ExerciseWarmUp implements HealthIndicator {
+
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final ExerciseCatalog catalog;
+    private final ReactiveExerciseProvider exercises;
+    private final Executor executor;
+    private final ExerciseDbConfig.WarmUp settings;
+    private final boolean cacheEnabled;
+
+    private volatile Health health;
+
+    public ExerciseWarmUp(WorkoutExerciseRepository workoutExerciseRepository, ExerciseCatalog catalog,
+            ReactiveExerciseProvider exercises,
+            @Qualifier("applicationTaskExecutor") Executor executor, ExerciseDbConfig config) {
+        this.workoutExerciseRepository = workoutExerciseRepository;
+        this.catalog = catalog;
+        this.exercises = exercises;
+        this.executor = executor;
+        this.settings = config.getWarmUp();
+        this.cacheEnabled = config.getCache().isEnabled();
+        this.health = settings.isEnabled()
+                ? Health.outOfService().withDetail("warmUp", "pending").build()
+                : Health.up().build();
+    }
+
+    @Override
+    public Health health() {
+        return health;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        long started = System.nanoTime();
+        health = Health.outOfService().withDetail("warmUp", "running").build();
+
+        CompletableFuture.supplyAsync(this::warmUp, executor)
+                .orTimeout(settings.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((warmed, error) -> {
+                    long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+                    if (error == null) {
+                        log.info("Exercise warm-up complete: {} exercises in {} ms", warmed, elapsedMs);
+                        health = Health.up().withDetail("warmUp", "complete")
+                                .withDetail("exercises", warmed).build();
+                    } else if (error instanceof TimeoutException) {
+                        log.warn("Exercise warm-up still running after {}, accepting traffic", settings.getTimeout());
+                        health = Health.up().withDetail("warmUp", "timed out").build();
+                    } else {
+                        log.warn("Exercise warm-up failed, accepting traffic: {}", error.getMessage());
+                        health = Health.up().withDetail("warmUp", "failed").build();
+                    }
+                });
+    }
+
+    /**
+     * @return Number of distinct exercises used by active plans
+     */
+    private int warmUp() {
+        List<String> externalIds = workoutExerciseRepository.findExerciseExternalIdsOfActivePlans();
+
+        if (catalog.isEnabled() && awaitCatalog()) {
+            return externalIds.size();
+        }
+        if (!cacheEnabled) {
+            log.info("ExerciseDB response cache disabled, nothing to prefetch");
+            return externalIds.size();
+        }
+
+        int batchSize = Math.max(settings.getBatchSize(), 1);
+        for (int from = 0; from < externalIds.size(); from += batchSize) {
+            exercises.getExercisesByIds(externalIds.subList(from, Math.min(from + batchSize, externalIds.size())))
+                    .contextWrite(ExerciseDbPriority.BACKGROUND::writeTo)
+                    .block();
+        }
+        Flux.merge(exercises.getBodyParts(), exercises.getTargets(), exercises.getEquipment())
+                .then()
+                .contextWrite(ExerciseDbPriority.BACKGROUND::writeTo)
+                .block();
+        return externalIds.size();
+    }
+
+    private boolean awaitCatalog() {
+        try {
+            long waitMs = Math.min(settings.getCatalogWait().toMillis(), settings.getTimeout().toMillis());
+            catalog.whenLoaded().get(waitMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            log.info("Exercise catalog not loaded yet, prefetching plan exercises from ExerciseDB");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
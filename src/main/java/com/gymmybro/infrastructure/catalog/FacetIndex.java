@@ -0,0 +1,133 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Inverted facet index over a catalog snapshot.
+ * Keeps one bitset per facet value, where bit {@code i} is set when the
+ * exercise at ordinal {@code i} carries that value. Combined filters are
+ * then evaluated with word-level AND/OR operations instead of list scans.
+ */
+final class FacetIndex {
+
+    /**
+     * Facets supported by the index, with the record field each one reads.
+     */
+    enum Facet {
+        BODY_PART("bodyParts", ExerciseDbApiResponse::getBodyParts),
+        TARGET("targets", ExerciseDbApiResponse::getTargetMuscles),
+        EQUIPMENT("equipment", ExerciseDbApiResponse::getEquipments);
+
+        private final String key;
+        private final Function<ExerciseDbApiResponse, List<String>> values;
+
+        Facet(String key, Function<ExerciseDbApiResponse, List<String>> values) {
+            this.key = key;
+            this.values = values;
+        }
+
+        String key() {
+            return key;
+        }
+    }
+
+    private final int size;
+    private final Map<Facet, Map<String, BitSet>> postings;
+    private final Map<Facet, Map<String, String>> labels;
+
+    private FacetIndex(int size, Map<Facet, Map<String, BitSet>> postings, Map<Facet, Map<String, String>> labels) {
+        this.size = size;
+        this.postings = postings;
+        this.labels = labels;
+    }
+
+    static FacetIndex build(List<ExerciseDbApiResponse> exercises) {
+        Map<Facet, Map<String, BitSet>> postings = new EnumMap<>(Facet.class);
+        Map<Facet, Map<String, String>> labels = new EnumMap<>(Facet.class);
+
+        for (Facet facet : Facet.values()) {
+            Map<String, BitSet> bits = new LinkedHashMap<>();
+            Map<String, String> names = new LinkedHashMap<>();
+
+            for (int ordinal = 0; ordinal < exercises.size(); ordinal++) {
+                for (String value : facet.values.apply(exercises.get(ordinal))) {
+                    String key = ExerciseCatalogSnapshot.normalize(value);
+                    bits.computeIfAbsent(key, k -> new BitSet(exercises.size())).set(ordinal);
+                    names.putIfAbsent(key, value);
+                }
+            }
+
+            postings.put(facet, Collections.unmodifiableMap(bits));
+            labels.put(facet, Collections.unmodifiableMap(names));
+        }
+
+        return new FacetIndex(exercises.size(), postings, labels);
+    }
+
+    /**
+     * Bitset of exercises carrying the given value. Callers must not mutate it.
+     */
+    BitSet postings(Facet facet, String value) {
+        BitSet bits = postings.get(facet).get(ExerciseCatalogSnapshot.normalize(value));
+        return bits != null ? bits : new BitSet(0);
+    }
+
+    /**
+     * OR together the postings of all given values of one facet.
+     *
+     * @return A fresh bitset, or null when no values were given
+     */
+    BitSet anyOf(Facet facet, Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        BitSet union = new BitSet(size);
+        for (String value : values) {
+            union.or(postings(facet, value));
+        }
+        return union;
+    }
+
+    /**
+     * Bitset with every exercise selected.
+     */
+    BitSet all() {
+        BitSet bits = new BitSet(size);
+        bits.set(0, size);
+        return bits;
+    }
+
+    /**
+     * Count, per facet value, how many of the selected exercises carry it.
+     * Values with no hits are omitted.
+     */
+    Map<String, Map<String, Integer>> counts(BitSet selection) {
+        Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+        BitSet scratch = new BitSet(size);
+
+        for (Facet facet : Facet.values()) {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (Map.Entry<String, BitSet> entry : postings.get(facet).entrySet()) {
+                scratch.clear();
+                scratch.or(entry.getValue());
+                scratch.and(selection);
+                int count = scratch.cardinality();
+                if (count > 0) {
+                    counts.put(labels.get(facet).get(entry.getKey()), count);
+                }
+            }
+            result.put(facet.key(), counts);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,267 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index over exercise names and secondary muscles.
+ * Supports ranked, typo-tolerant and prefix-aware search without scanning
+ * the whole catalog: query grams are looked up in posting lists and only the
+ * exercises sharing at least one gram are visited and scored. Hit counts go
+ * into per-thread counters that are reset after each query, so a query
+ * allocates nothing in proportion to the catalog size.
+ *
+ * <p>Grams are taken from the name with spaces removed (so "benchpres" still
+ * matches "Bench Press"), plus a "^xy" start marker per word to reward
+ * prefix matches. Candidates are additionally checked word by word with a
+ * bounded edit distance, which catches transpositions in short words
+ * ("sqaut") that share too few trigrams.
+ */
+final class NameSearchIndex {
+
+    private static final double MIN_SCORE = 0.5;
+    private static final double MUSCLE_WEIGHT = 0.6;
+    private static final int[] EMPTY = new int[0];
+
+    private final List<ExerciseDbApiResponse> exercises;
+    private final String[] compactNames;
+    private final String[][] nameTokens;
+    private final int[] nameGramCounts;
+    private final Map<String, int[]> namePostings;
+    private final Map<String, int[]> musclePostings;
+    private final ThreadLocal<int[][]> hitCounters;
+
+    private NameSearchIndex(List<ExerciseDbApiResponse> exercises, String[] compactNames, String[][] nameTokens,
+            int[] nameGramCounts, Map<String, int[]> namePostings, Map<String, int[]> musclePostings) {
+        this.exercises = exercises;
+        this.compactNames = compactNames;
+        this.nameTokens = nameTokens;
+        this.nameGramCounts = nameGramCounts;
+        this.namePostings = namePostings;
+        this.musclePostings = musclePostings;
+        this.hitCounters = ThreadLocal.withInitial(() -> new int[2][exercises.size()]);
+    }
+
+    static NameSearchIndex build(List<ExerciseDbApiResponse> exercises) {
+        int size = exercises.size();
+        String[] compactNames = new String[size];
+        String[][] nameTokens = new String[size][];
+        int[] nameGramCounts = new int[size];
+        Map<String, List<Integer>> names = new HashMap<>();
+        Map<String, List<Integer>> muscles = new HashMap<>();
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            ExerciseDbApiResponse exercise = exercises.get(ordinal);
+
+            String[] tokens = tokenize(exercise.getName());
+            Set<String> grams = grams(tokens);
+            nameTokens[ordinal] = tokens;
+            compactNames[ordinal] = String.join("", tokens);
+            nameGramCounts[ordinal] = grams.size();
+            for (String gram : grams) {
+                names.computeIfAbsent(gram, g -> new ArrayList<>()).add(ordinal);
+            }
+
+            Set<String> muscleGrams = new LinkedHashSet<>();
+            for (String muscle : exercise.getSecondaryMuscles()) {
+                muscleGrams.addAll(grams(tokenize(muscle)));
+            }
+            for (String gram : muscleGrams) {
+                muscles.computeIfAbsent(gram, g -> new ArrayList<>()).add(ordinal);
+            }
+        }
+
+        return new NameSearchIndex(exercises, compactNames, nameTokens, nameGramCounts,
+                toPostings(names), toPostings(muscles));
+    }
+
+    /**
+     * Ranked search. Best matches first; exact and prefix matches on the name
+     * outrank fuzzy ones, and name matches outrank secondary-muscle matches.
+     */
+    List<ExerciseDbApiResponse> search(String query) {
+        String[] queryTokens = tokenize(query);
+        if (queryTokens.length == 0) {
+            return List.of();
+        }
+
+        Set<String> queryGrams = grams(queryTokens);
+        String compactQuery = String.join("", queryTokens);
+        int[][] counters = hitCounters.get();
+        int[] nameHits = counters[0];
+        int[] muscleHits = counters[1];
+        int[] touched = new int[16];
+        int touchedCount = 0;
+
+        List<Hit> hits = new ArrayList<>();
+        try {
+            for (String gram : queryGrams) {
+                for (int ordinal : namePostings.getOrDefault(gram, EMPTY)) {
+                    if (nameHits[ordinal]++ == 0 && muscleHits[ordinal] == 0) {
+                        touched = append(touched, touchedCount++, ordinal);
+                    }
+                }
+                for (int ordinal : musclePostings.getOrDefault(gram, EMPTY)) {
+                    if (muscleHits[ordinal]++ == 0 && nameHits[ordinal] == 0) {
+                        touched = append(touched, touchedCount++, ordinal);
+                    }
+                }
+            }
+
+            for (int i = 0; i < touchedCount; i++) {
+                int ordinal = touched[i];
+                double score = score(ordinal, nameHits[ordinal], muscleHits[ordinal], queryGrams.size(),
+                        queryTokens, compactQuery);
+                if (score >= MIN_SCORE) {
+                    hits.add(new Hit(ordinal, score));
+                }
+            }
+        } finally {
+            for (int i = 0; i < touchedCount; i++) {
+                nameHits[touched[i]] = 0;
+                muscleHits[touched[i]] = 0;
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparingInt(h -> compactNames[h.ordinal()].length())
+                .thenComparingInt(Hit::ordinal));
+
+        List<ExerciseDbApiResponse> result = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            result.add(exercises.get(hit.ordinal()));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private double score(int ordinal, int nameHits, int muscleHits, int queryGramCount,
+            String[] queryTokens, String compactQuery) {
+        // Containment rewards names that cover the query; Dice penalises long, loosely related names
+        double containment = (double) nameHits / queryGramCount;
+        double dice = 2.0 * nameHits / (queryGramCount + nameGramCounts[ordinal]);
+        double score = Math.max(0.7 * containment + 0.3 * dice,
+                MUSCLE_WEIGHT * muscleHits / queryGramCount);
+
+        String compactName = compactNames[ordinal];
+        if (compactName.equals(compactQuery)) {
+            score += 1.0;
+        } else if (compactName.startsWith(compactQuery)) {
+            score += 0.5;
+        }
+
+        int prefixMatches = 0;
+        int fuzzyMatches = 0;
+        for (String queryToken : queryTokens) {
+            if (matchesPrefix(queryToken, nameTokens[ordinal])) {
+                prefixMatches++;
+            } else if (matchesWithTypo(queryToken, nameTokens[ordinal])) {
+                fuzzyMatches++;
+            }
+        }
+        return score + (0.2 * prefixMatches + 0.5 * fuzzyMatches) / queryTokens.length;
+    }
+
+    private static int[] append(int[] array, int index, int value) {
+        int[] target = index < array.length ? array : Arrays.copyOf(array, array.length * 2);
+        target[index] = value;
+        return target;
+    }
+
+    private static boolean matchesPrefix(String queryToken, String[] nameTokens) {
+        for (String nameToken : nameTokens) {
+            if (nameToken.startsWith(queryToken)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesWithTypo(String queryToken, String[] nameTokens) {
+        int maxEdits = queryToken.length() >= 8 ? 2 : queryToken.length() >= 4 ? 1 : 0;
+        if (maxEdits == 0) {
+            return false;
+        }
+        for (String nameToken : nameTokens) {
+            if (Math.abs(nameToken.length() - queryToken.length()) <= maxEdits
+                    && editDistance(queryToken, nameToken, maxEdits) <= maxEdits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions),
+     * abandoned early once every cell in a row exceeds {@code limit}.
+     */
+    private static int editDistance(String a, String b, int limit) {
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    private static String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static Set<String> grams(String[] tokens) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokens) {
+            grams.add("^" + token.substring(0, Math.min(2, token.length())));
+        }
+        String compact = String.join("", tokens);
+        for (int i = 0; i + 3 <= compact.length(); i++) {
+            grams.add(compact.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static Map<String, int[]> toPostings(Map<String, List<Integer>> lists) {
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((gram, ordinals) -> postings.put(gram, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+        return Collections.unmodifiableMap(postings);
+    }
+
+    private record Hit(int ordinal, double score) {
+    }
+}
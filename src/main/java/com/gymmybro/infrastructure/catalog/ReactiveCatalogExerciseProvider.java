@@ -0,0 +1,113 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.service.ReactiveExerciseProvider;
+import com.gymmybro.config.ExerciseProviderConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ReactiveExerciseProvider backed by the in-process exercise catalog.
+ * Snapshot reads complete immediately. While the first snapshot is still
+ * loading (or the catalog is disabled), reads fall back to the reactive
+ * upstream chain (response cache, coalescing, then the non-blocking
+ * ExerciseDB client), so no thread waits on ExerciseDB either way.
+ */
+@Component
+@Primary
+public class ReactiveCatalogExerciseProvider implements ReactiveExerciseProvider {
+
+    private final ExerciseCatalog catalog;
+    private final ReactiveExerciseProvider upstream;
+
+    public ReactiveCatalogExerciseProvider(
+            ExerciseCatalog catalog,
+            @Qualifier(ExerciseProviderConfig.REACTIVE_UPSTREAM) ReactiveExerciseProvider upstream) {
+        this.catalog = catalog;
+        this.upstream = upstream;
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> fetchAllExercises(int limit, int offset) {
+        return fromSnapshot(snapshot -> snapshot.slice(limit, offset), () -> upstream.fetchAllExercises(limit, offset));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> searchByName(String name) {
+        return fromSnapshot(snapshot -> snapshot.searchByName(name), () -> upstream.searchByName(name));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByBodyPart(String bodyPart) {
+        return fromSnapshot(snapshot -> snapshot.filterByBodyPart(bodyPart), () -> upstream.filterByBodyPart(bodyPart));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByTarget(String target) {
+        return fromSnapshot(snapshot -> snapshot.filterByTarget(target), () -> upstream.filterByTarget(target));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByEquipment(String equipment) {
+        return fromSnapshot(snapshot -> snapshot.filterByEquipment(equipment),
+                () -> upstream.filterByEquipment(equipment));
+    }
+
+    @Override
+    public Flux<String> getBodyParts() {
+        return fromSnapshot(ExerciseCatalogSnapshot::getBodyParts, upstream::getBodyParts);
+    }
+
+    @Override
+    public Flux<String> getTargets() {
+        return fromSnapshot(ExerciseCatalogSnapshot::getTargets, upstream::getTargets);
+    }
+
+    @Override
+    public Flux<String> getEquipment() {
+        return fromSnapshot(ExerciseCatalogSnapshot::getEquipment, upstream::getEquipment);
+    }
+
+    /**
+     * The snapshot holds the full catalog, so a miss is authoritative and
+     * does not fall through to ExerciseDB.
+     */
+    @Override
+    public Mono<ExerciseDbApiResponse> getExerciseById(String externalId) {
+        return Mono.defer(() -> {
+            Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+            return snapshot.isPresent()
+                    ? Mono.justOrEmpty(snapshot.get().findById(externalId))
+                    : upstream.getExerciseById(externalId);
+        });
+    }
+
+    @Override
+    public Mono<Map<String, ExerciseDbApiResponse>> getExercisesByIds(Collection<String> externalIds) {
+        return Mono.defer(() -> {
+            Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+            return snapshot.isPresent()
+                    ? Mono.just(snapshot.get().findByIds(externalIds))
+                    : upstream.getExercisesByIds(externalIds);
+        });
+    }
+
+    private <T> Flux<T> fromSnapshot(Function<ExerciseCatalogSnapshot, List<T>> read, Supplier<Flux<T>> fallback) {
+        return Flux.defer(() -> {
+            Optional<ExerciseCatalogSnapshot> snapshot = catalog.current();
+            return snapshot.isPresent()
+                    ? Flux.fromIterable(read.apply(snapshot.get()))
+                    : fallback.get();
+        });
+    }
+}
@@ -0,0 +1,215 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Exercise similarity index over a catalog snapshot.
+ *
+ * <p>Every exercise is encoded once as a fixed-width bit vector with one
+ * region per feature group (target muscles, secondary muscles, body parts,
+ * equipment), each region aligned to whole 64-bit words. Similarity is the
+ * weighted mean of the per-group Jaccard indexes, computed with AND/OR and
+ * popcount over a handful of words, so ranking the whole catalog against
+ * one exercise is a single linear scan without allocation per candidate.
+ */
+final class SimilarityIndex {
+
+    /**
+     * Feature groups and their weight in the similarity score.
+     * Prime movers dominate; equipment counts least, since swapping it is
+     * usually the point.
+     */
+    enum Group {
+        TARGET(0.5, ExerciseDbApiResponse::getTargetMuscles),
+        SECONDARY(0.2, ExerciseDbApiResponse::getSecondaryMuscles),
+        BODY_PART(0.2, ExerciseDbApiResponse::getBodyParts),
+        EQUIPMENT(0.1, ExerciseDbApiResponse::getEquipments);
+
+        private final double weight;
+        private final Function<ExerciseDbApiResponse, List<String>> values;
+
+        Group(double weight, Function<ExerciseDbApiResponse, List<String>> values) {
+            this.weight = weight;
+            this.values = values;
+        }
+    }
+
+    /**
+     * An exercise ordinal with its similarity to the query exercise.
+     */
+    record Match(int ordinal, double similarity) {
+    }
+
+    private final int size;
+    private final int stride;
+    private final int[] groupStart;
+    private final int[] groupEnd;
+    private final List<Map<String, Integer>> features;
+    private final long[] vectors;
+
+    private SimilarityIndex(int size, int stride, int[] groupStart, int[] groupEnd,
+            List<Map<String, Integer>> features, long[] vectors) {
+        this.size = size;
+        this.stride = stride;
+        this.groupStart = groupStart;
+        this.groupEnd = groupEnd;
+        this.features = features;
+        this.vectors = vectors;
+    }
+
+    static SimilarityIndex build(List<ExerciseDbApiResponse> exercises) {
+        Group[] groups = Group.values();
+        List<Map<String, Integer>> features = new ArrayList<>(groups.length);
+        int[] groupStart = new int[groups.length];
+        int[] groupEnd = new int[groups.length];
+
+        int words = 0;
+        for (Group group : groups) {
+            Map<String, Integer> vocabulary = new HashMap<>();
+            for (ExerciseDbApiResponse exercise : exercises) {
+                for (String value : valuesOf(group, exercise)) {
+                    vocabulary.putIfAbsent(ExerciseCatalogSnapshot.normalize(value), vocabulary.size());
+                }
+            }
+            features.add(Collections.unmodifiableMap(vocabulary));
+            groupStart[group.ordinal()] = words;
+            words += (vocabulary.size() + 63) / 64;
+            groupEnd[group.ordinal()] = words;
+        }
+
+        long[] vectors = new long[exercises.size() * words];
+        for (int ordinal = 0; ordinal < exercises.size(); ordinal++) {
+            for (Group group : groups) {
+                Map<String, Integer> vocabulary = features.get(group.ordinal());
+                int base = ordinal * words + groupStart[group.ordinal()];
+                for (String value : valuesOf(group, exercises.get(ordinal))) {
+                    int bit = vocabulary.get(ExerciseCatalogSnapshot.normalize(value));
+                    vectors[base + (bit >>> 6)] |= 1L << bit;
+                }
+            }
+        }
+
+        return new SimilarityIndex(exercises.size(), words, groupStart, groupEnd, features, vectors);
+    }
+
+    /**
+     * The {@code limit} exercises most similar to {@code ordinal}, best first.
+     * Candidates must share a target muscle (or, for exercises without one, a
+     * body part) and must not use any of {@code excludedEquipment}.
+     */
+    List<Match> topSimilar(int ordinal, int limit, Collection<String> excludedEquipment) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long[] excluded = equipmentMask(excludedEquipment);
+        int source = ordinal * stride;
+        Group required = isEmpty(source, Group.TARGET) ? Group.BODY_PART : Group.TARGET;
+
+        // Min-heap on similarity; ties keep the lower ordinal (catalog order)
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, (a, b) -> a.similarity() != b.similarity()
+                ? Double.compare(a.similarity(), b.similarity())
+                : Integer.compare(b.ordinal(), a.ordinal()));
+
+        for (int candidate = 0; candidate < size; candidate++) {
+            int offset = candidate * stride;
+            if (candidate == ordinal || usesAny(offset, excluded) || !overlaps(source, offset, required)) {
+                continue;
+            }
+            double similarity = similarity(source, offset);
+            if (best.size() < limit) {
+                best.add(new Match(candidate, similarity));
+            } else if (similarity > best.peek().similarity()) {
+                best.poll();
+                best.add(new Match(candidate, similarity));
+            }
+        }
+
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(best.comparator().reversed());
+        return ranked;
+    }
+
+    private double similarity(int a, int b) {
+        double score = 0;
+        double weights = 0;
+        for (Group group : Group.values()) {
+            int intersection = 0;
+            int union = 0;
+            for (int w = groupStart[group.ordinal()]; w < groupEnd[group.ordinal()]; w++) {
+                intersection += Long.bitCount(vectors[a + w] & vectors[b + w]);
+                union += Long.bitCount(vectors[a + w] | vectors[b + w]);
+            }
+            // Groups neither exercise has say nothing about similarity
+            if (union > 0) {
+                score += group.weight * intersection / union;
+                weights += group.weight;
+            }
+        }
+        return weights > 0 ? score / weights : 0;
+    }
+
+    private boolean overlaps(int a, int b, Group group) {
+        for (int w = groupStart[group.ordinal()]; w < groupEnd[group.ordinal()]; w++) {
+            if ((vectors[a + w] & vectors[b + w]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isEmpty(int offset, Group group) {
+        for (int w = groupStart[group.ordinal()]; w < groupEnd[group.ordinal()]; w++) {
+            if (vectors[offset + w] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean usesAny(int offset, long[] equipmentMask) {
+        if (equipmentMask == null) {
+            return false;
+        }
+        int start = groupStart[Group.EQUIPMENT.ordinal()];
+        for (int w = 0; w < equipmentMask.length; w++) {
+            if ((vectors[offset + start + w] & equipmentMask[w]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bit mask over the equipment region, or null when nothing known is excluded.
+     */
+    private long[] equipmentMask(Collection<String> equipment) {
+        if (equipment == null || equipment.isEmpty()) {
+            return null;
+        }
+        Map<String, Integer> vocabulary = features.get(Group.EQUIPMENT.ordinal());
+        long[] mask = new long[groupEnd[Group.EQUIPMENT.ordinal()] - groupStart[Group.EQUIPMENT.ordinal()]];
+        boolean any = false;
+        for (String value : equipment) {
+            Integer bit = vocabulary.get(ExerciseCatalogSnapshot.normalize(value));
+            if (bit != null) {
+                mask[bit >>> 6] |= 1L << bit;
+                any = true;
+            }
+        }
+        return any ? mask : null;
+    }
+
+    private static List<String> valuesOf(Group group, ExerciseDbApiResponse exercise) {
+        List<String> values = group.values.apply(exercise);
+        return values != null ? values : List.of();
+    }
+}
@@ -0,0 +1,137 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.service.ExerciseProvider;
+import com.gymmybro.config.ExerciseDbConfig;
+import com.gymmybro.domain.job.JobCheckpoint;
+import com.gymmybro.domain.job.JobCheckpointRepository;
+import com.gymmybro.domain.workout.WorkoutExerciseRepository;
+import com.gymmybro.domain.workout.WorkoutExerciseRepositoryCustom.ExerciseDetails;
+import com.gymmybro.infrastructure.external.ExerciseDbPriority;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the exercise name and GIF URL cached on workout exercises in line
+ * with the catalog.
+ *
+ * <p>Walks the distinct exercise IDs referenced by workout exercises in
+ * batches, resolves each batch with one provider call (normally the
+ * in-memory catalog) and rewrites the stale rows with one UPDATE per
+ * exercise. The batch's updates and the job checkpoint commit together, so
+ * an interrupted run resumes after the last committed batch.
+ */
+@Component
+@Slf4j
+public class WorkoutExerciseRefreshJob {
+
+    static final String JOB_NAME = "workout-exercise-refresh";
+
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final ExerciseProvider exerciseProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final ExerciseDbConfig.Catalog settings;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public WorkoutExerciseRefreshJob(WorkoutExerciseRepository workoutExerciseRepository,
+            JobCheckpointRepository checkpointRepository, ExerciseProvider exerciseProvider,
+            TransactionTemplate transactionTemplate, ExerciseDbConfig config) {
+        this.workoutExerciseRepository = workoutExerciseRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.exerciseProvider = exerciseProvider;
+        this.transactionTemplate = transactionTemplate;
+        this.settings = config.getCatalog();
+    }
+
+    /**
+     * Periodic run. The first run is delayed so the catalog can load; an
+     * interrupted run from a previous process is resumed at that point.
+     */
+    @Scheduled(initialDelayString = "PT10M", fixedDelayString = "${exercisedb.catalog.workout-refresh-interval:P1D}")
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.error("Workout exercise refresh failed, will resume from last checkpoint: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Run the job, resuming an unfinished run if there is one.
+     *
+     * @return Rows changed by the run, or -1 if a run was already in progress
+     */
+    public long run() {
+        if (!runLock.tryLock()) {
+            log.debug("Workout exercise refresh already in progress");
+            return -1;
+        }
+        try {
+            JobCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                    .filter(existing -> !existing.isCompleted())
+                    .orElseGet(this::startRun);
+            if (checkpoint.getPosition() != null) {
+                log.info("Resuming workout exercise refresh after '{}'", checkpoint.getPosition());
+            }
+
+            int batchSize = Math.max(settings.getWorkoutRefreshBatchSize(), 1);
+            String after = checkpoint.getPosition() != null ? checkpoint.getPosition() : "";
+            List<String> externalIds;
+            while (!(externalIds = workoutExerciseRepository.findDistinctExerciseExternalIdsAfter(after,
+                    Limit.of(batchSize))).isEmpty()) {
+                checkpoint = refreshBatch(checkpoint, externalIds);
+                after = checkpoint.getPosition();
+            }
+
+            checkpoint.setCompletedAt(Instant.now());
+            checkpointRepository.save(checkpoint);
+            log.info("Workout exercise refresh complete: {} rows updated", checkpoint.getRowsUpdated());
+            return checkpoint.getRowsUpdated();
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private JobCheckpoint refreshBatch(JobCheckpoint checkpoint, List<String> externalIds) {
+        Map<String, ExerciseDbApiResponse> resolved = ExerciseDbPriority.BACKGROUND.call(
+                () -> exerciseProvider.getExercisesByIds(externalIds));
+
+        List<ExerciseDetails> details = new ArrayList<>(resolved.size());
+        for (String externalId : externalIds) {
+            ExerciseDbApiResponse exercise = resolved.get(externalId);
+            // Unknown IDs keep their cached values rather than being blanked
+            if (exercise != null && exercise.getName() != null) {
+                details.add(new ExerciseDetails(externalId, exercise.getName(), exercise.getGifUrl()));
+            }
+        }
+        if (details.size() < externalIds.size()) {
+            log.debug("{} of {} exercise IDs not found in the catalog", externalIds.size() - details.size(),
+                    externalIds.size());
+        }
+
+        String position = externalIds.get(externalIds.size() - 1);
+        return transactionTemplate.execute(status -> {
+            int updated = workoutExerciseRepository.refreshExerciseDetails(details);
+            checkpoint.setPosition(position);
+            checkpoint.setRowsUpdated(checkpoint.getRowsUpdated() + updated);
+            return checkpointRepository.save(checkpoint);
+        });
+    }
+
+    private JobCheckpoint startRun() {
+        return checkpointRepository.save(JobCheckpoint.builder()
+                .jobName(JOB_NAME)
+                .runStartedAt(Instant.now())
+                .build());
+    }
+}
@@ -0,0 +1,93 @@
+package com.gymmybro.infrastructure.external;
+
+/**
+ * Concurrency limit for in-flight ExerciseDB calls that adapts to observed latency.
+ *
+ * <p>Additive increase, multiplicative decrease: each fast call while the
+ * limit is in use grows it by {@code 1/limit} (about +1 per round trip);
+ * a dropped call (timeout, 5xx, 429) or a call slower than
+ * {@code latencyTolerance} times the baseline latency shrinks it by
+ * {@code backoffRatio}. The baseline is a slow moving average of healthy
+ * round trips. The limit never leaves {@code [minLimit, maxLimit]}, so
+ * {@code maxLimit} also acts as a hard bulkhead.
+ */
+class AdaptiveConcurrencyLimit {
+
+    private static final double BASELINE_SMOOTHING = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+
+    private double limit;
+    private int inFlight;
+    private double baselineNanos;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+            double latencyTolerance) {
+        this.minLimit = Math.max(minLimit, 1);
+        this.maxLimit = Math.max(maxLimit, this.minLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+    }
+
+    /**
+     * @return true if a slot was taken; it must then be released exactly once
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Release a slot and adjust the limit from the call's outcome.
+     *
+     * @param rttNanos Round-trip time of the call
+     * @param dropped  Whether the call failed in a way that signals overload
+     */
+    synchronized void release(long rttNanos, boolean dropped) {
+        inFlight--;
+
+        if (dropped) {
+            decrease();
+            return;
+        }
+        if (baselineNanos == 0) {
+            baselineNanos = rttNanos;
+            return;
+        }
+        if (rttNanos > baselineNanos * latencyTolerance) {
+            decrease();
+            return;
+        }
+        baselineNanos += (rttNanos - baselineNanos) * BASELINE_SMOOTHING;
+        // Only grow while the current limit is actually being used
+        if (inFlight + 1 >= limit / 2) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * Release a slot without a latency sample (cancelled call).
+     */
+    synchronized void release() {
+        inFlight--;
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
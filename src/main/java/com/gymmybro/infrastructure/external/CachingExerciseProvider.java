@@ -0,0 +1,122 @@
+package com.gymmybro.infrastructure.external;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.service.ExerciseProvider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.gymmybro.infrastructure.external.ExerciseDbResponseCache.key;
+
+/**
+ * Stale-while-revalidate cache in front of an upstream ExerciseProvider.
+ * Expired entries keep being served while a single background refresh runs,
+ * which also keeps results available when ExerciseDB is slow or down.
+ * Entries live in an {@link ExerciseDbResponseCache} shared with the
+ * reactive provider chain.
+ */
+public class CachingExerciseProvider implements ExerciseProvider {
+
+    private final ExerciseProvider delegate;
+
+    private final StaleWhileRevalidateCache<String, List<ExerciseDbApiResponse>> pages;
+    private final StaleWhileRevalidateCache<String, List<ExerciseDbApiResponse>> searches;
+    private final StaleWhileRevalidateCache<String, List<ExerciseDbApiResponse>> filters;
+    private final StaleWhileRevalidateCache<String, ExerciseDbApiResponse> exercises;
+    private final StaleWhileRevalidateCache<String, List<String>> metadata;
+
+    public CachingExerciseProvider(ExerciseProvider delegate, ExerciseDbResponseCache cache) {
+        this.delegate = delegate;
+        this.pages = cache.pages;
+        this.searches = cache.searches;
+        this.filters = cache.filters;
+        this.exercises = cache.exercises;
+        this.metadata = cache.metadata;
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> fetchAllExercises(int limit, int offset) {
+        return pages.get(limit + ":" + offset, () -> delegate.fetchAllExercises(limit, offset));
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> searchByName(String name) {
+        return searches.get(key(name), () -> delegate.searchByName(name));
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> filterByBodyPart(String bodyPart) {
+        return filters.get("bodyPart:" + key(bodyPart), () -> delegate.filterByBodyPart(bodyPart));
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> filterByTarget(String target) {
+        return filters.get("target:" + key(target), () -> delegate.filterByTarget(target));
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> filterByEquipment(String equipment) {
+        return filters.get("equipment:" + key(equipment), () -> delegate.filterByEquipment(equipment));
+    }
+
+    @Override
+    public List<String> getBodyParts() {
+        return metadata.get("bodyParts", delegate::getBodyParts);
+    }
+
+    @Override
+    public List<String> getTargets() {
+        return metadata.get("targets", delegate::getTargets);
+    }
+
+    @Override
+    public List<String> getEquipment() {
+        return metadata.get("equipment", delegate::getEquipment);
+    }
+
+    @Override
+    public ExerciseDbApiResponse getExerciseById(String externalId) {
+        return exercises.get(externalId, () -> delegate.getExerciseById(externalId));
+    }
+
+    /**
+     * Serve cached exercises directly and fetch only the misses, in one
+     * delegate batch call.
+     */
+    @Override
+    public Map<String, ExerciseDbApiResponse> getExercisesByIds(Collection<String> externalIds) {
+        Map<String, ExerciseDbApiResponse> cached = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+
+        Set<String> requested = new LinkedHashSet<>(externalIds);
+        for (String externalId : requested) {
+            ExerciseDbApiResponse exercise = exercises.getIfPresent(externalId,
+                    () -> delegate.getExerciseById(externalId));
+            if (exercise != null) {
+                cached.put(externalId, exercise);
+            } else {
+                misses.add(externalId);
+            }
+        }
+
+        Map<String, ExerciseDbApiResponse> fetched = misses.isEmpty()
+                ? Map.of()
+                : delegate.getExercisesByIds(misses);
+        fetched.forEach(exercises::put);
+
+        Map<String, ExerciseDbApiResponse> found = new LinkedHashMap<>();
+        for (String externalId : requested) {
+            ExerciseDbApiResponse exercise = cached.getOrDefault(externalId, fetched.get(externalId));
+            if (exercise != null) {
+                found.put(externalId, exercise);
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,137 @@
+package com.gymmybro.infrastructure.external;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.service.ReactiveExerciseProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.gymmybro.infrastructure.external.ExerciseDbResponseCache.key;
+
+/**
+ * Non-blocking counterpart of {@link CachingExerciseProvider}, reading and
+ * filling the same {@link ExerciseDbResponseCache}. Misses and background
+ * revalidations subscribe to the delegate; no thread waits on ExerciseDB.
+ */
+public class CachingReactiveExerciseProvider implements ReactiveExerciseProvider {
+
+    private final ReactiveExerciseProvider delegate;
+
+    private final StaleWhileRevalidateCache<String, List<ExerciseDbApiResponse>> pages;
+    private final StaleWhileRevalidateCache<String, List<ExerciseDbApiResponse>> searches;
+    private final StaleWhileRevalidateCache<String, List<ExerciseDbApiResponse>> filters;
+    private final StaleWhileRevalidateCache<String, ExerciseDbApiResponse> exercises;
+    private final StaleWhileRevalidateCache<String, List<String>> metadata;
+
+    public CachingReactiveExerciseProvider(ReactiveExerciseProvider delegate, ExerciseDbResponseCache cache) {
+        this.delegate = delegate;
+        this.pages = cache.pages;
+        this.searches = cache.searches;
+        this.filters = cache.filters;
+        this.exercises = cache.exercises;
+        this.metadata = cache.metadata;
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> fetchAllExercises(int limit, int offset) {
+        return list(pages, limit + ":" + offset, () -> delegate.fetchAllExercises(limit, offset));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> searchByName(String name) {
+        return list(searches, key(name), () -> delegate.searchByName(name));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByBodyPart(String bodyPart) {
+        return list(filters, "bodyPart:" + key(bodyPart), () -> delegate.filterByBodyPart(bodyPart));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByTarget(String target) {
+        return list(filters, "target:" + key(target), () -> delegate.filterByTarget(target));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByEquipment(String equipment) {
+        return list(filters, "equipment:" + key(equipment), () -> delegate.filterByEquipment(equipment));
+    }
+
+    @Override
+    public Flux<String> getBodyParts() {
+        return list(metadata, "bodyParts", delegate::getBodyParts);
+    }
+
+    @Override
+    public Flux<String> getTargets() {
+        return list(metadata, "targets", delegate::getTargets);
+    }
+
+    @Override
+    public Flux<String> getEquipment() {
+        return list(metadata, "equipment", delegate::getEquipment);
+    }
+
+    @Override
+    public Mono<ExerciseDbApiResponse> getExerciseById(String externalId) {
+        return exercises.getAsync(externalId, () -> delegate.getExerciseById(externalId));
+    }
+
+    /**
+     * Serve cached exercises directly and fetch only the misses, in one
+     * delegate batch call.
+     */
+    @Override
+    public Mono<Map<String, ExerciseDbApiResponse>> getExercisesByIds(Collection<String> externalIds) {
+        return Mono.defer(() -> {
+            Map<String, ExerciseDbApiResponse> cached = new HashMap<>();
+            List<String> misses = new ArrayList<>();
+
+            Set<String> requested = new LinkedHashSet<>(externalIds);
+            for (String externalId : requested) {
+                ExerciseDbApiResponse exercise = exercises.getIfPresentAsync(externalId,
+                        () -> delegate.getExerciseById(externalId));
+                if (exercise != null) {
+                    cached.put(externalId, exercise);
+                } else {
+                    misses.add(externalId);
+                }
+            }
+
+            Mono<Map<String, ExerciseDbApiResponse>> fetched = misses.isEmpty()
+                    ? Mono.just(Map.of())
+                    : delegate.getExercisesByIds(misses).doOnNext(found -> found.forEach(exercises::put));
+
+            return fetched.map(found -> {
+                Map<String, ExerciseDbApiResponse> result = new LinkedHashMap<>();
+                for (String externalId : requested) {
+                    ExerciseDbApiResponse exercise = cached.getOrDefault(externalId, found.get(externalId));
+                    if (exercise != null) {
+                        result.put(externalId, exercise);
+                    }
+                }
+                return result;
+            });
+        });
+    }
+
+    /**
+     * List results are cached whole, so a list is collected before it is
+     * stored and replayed from the cached copy.
+     */
+    private static <T> Flux<T> list(StaleWhileRevalidateCache<String, List<T>> cache, String key,
+            Supplier<Flux<T>> call) {
+        return cache.getAsync(key, () -> call.get().collectList())
+                .flatMapIterable(Function.identity());
+    }
+}
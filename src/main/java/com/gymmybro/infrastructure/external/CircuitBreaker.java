@@ -0,0 +1,132 @@
+package com.gymmybro.infrastructure.external;
+
+import java.time.Duration;
+
+/**
+ * Count-based circuit breaker for one ExerciseDB endpoint.
+ *
+ * <ul>
+ * <li>CLOSED: calls pass; once the window holds {@code minimumCalls} results
+ * and the failure rate reaches the threshold, the circuit opens.</li>
+ * <li>OPEN: calls are rejected until {@code openDuration} has elapsed.</li>
+ * <li>HALF_OPEN: a few trial calls pass; if all succeed the circuit closes,
+ * any failure opens it again.</li>
+ * </ul>
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    private State state = State.CLOSED;
+    private int position;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private int trialsInFlight;
+    private int trialSuccesses;
+
+    CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, Duration openDuration,
+            int halfOpenCalls) {
+        this.window = new boolean[Math.max(windowSize, 1)];
+        this.minimumCalls = Math.min(Math.max(minimumCalls, 1), window.length);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = Math.max(halfOpenCalls, 1);
+    }
+
+    synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * @return true if the call may proceed; it must then be reported exactly once
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialsInFlight + trialSuccesses >= halfOpenCalls) {
+                return false;
+            }
+            trialsInFlight++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            trialsInFlight--;
+            if (++trialSuccesses >= halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transition(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                transition(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * The call was cancelled before it produced a result.
+     */
+    synchronized void onCancel() {
+        if (state == State.HALF_OPEN && trialsInFlight > 0) {
+            trialsInFlight--;
+        }
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % window.length;
+    }
+
+    private void transition(State next) {
+        state = next;
+        trialsInFlight = 0;
+        trialSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (next == State.CLOSED) {
+            position = 0;
+            recorded = 0;
+            failures = 0;
+        }
+    }
+}
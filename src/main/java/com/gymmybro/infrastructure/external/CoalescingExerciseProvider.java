@@ -0,0 +1,143 @@
+package com.gymmybro.infrastructure.external;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.service.ExerciseProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer in front of an upstream ExerciseProvider.
+ * Concurrent identical calls (same method, arguments and quota lane) share
+ * one in-flight upstream request and its result or failure; keying on the
+ * lane keeps an interactive caller from queueing behind a background call.
+ * Nothing is kept once the call completes, so results are exactly what the
+ * delegate would have returned.
+ */
+public class CoalescingExerciseProvider implements ExerciseProvider {
+
+    private final ExerciseProvider delegate;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter upstreamCalls;
+    private final Counter deduplicatedCalls;
+
+    public CoalescingExerciseProvider(ExerciseProvider delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.upstreamCalls = Counter.builder("exercisedb.coalescing.calls")
+                .description("Upstream ExerciseDB calls after request coalescing")
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.deduplicatedCalls = Counter.builder("exercisedb.coalescing.calls")
+                .description("Upstream ExerciseDB calls after request coalescing")
+                .tag("result", "deduplicated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> fetchAllExercises(int limit, int offset) {
+        return coalesce("fetchAll:" + limit + ":" + offset, () -> delegate.fetchAllExercises(limit, offset));
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> searchByName(String name) {
+        return coalesce("search:" + name, () -> delegate.searchByName(name));
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> filterByBodyPart(String bodyPart) {
+        return coalesce("bodyPart:" + bodyPart, () -> delegate.filterByBodyPart(bodyPart));
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> filterByTarget(String target) {
+        return coalesce("target:" + target, () -> delegate.filterByTarget(target));
+    }
+
+    @Override
+    public List<ExerciseDbApiResponse> filterByEquipment(String equipment) {
+        return coalesce("equipment:" + equipment, () -> delegate.filterByEquipment(equipment));
+    }
+
+    @Override
+    public List<String> getBodyParts() {
+        return coalesce("bodyParts", delegate::getBodyParts);
+    }
+
+    @Override
+    public List<String> getTargets() {
+        return coalesce("targets", delegate::getTargets);
+    }
+
+    @Override
+    public List<String> getEquipment() {
+        return coalesce("equipment", delegate::getEquipment);
+    }
+
+    @Override
+    public ExerciseDbApiResponse getExerciseById(String externalId) {
+        return coalesce("exercise:" + externalId, () -> delegate.getExerciseById(externalId));
+    }
+
+    /**
+     * Batches are rarely identical, so they are passed straight through.
+     */
+    @Override
+    public Map<String, ExerciseDbApiResponse> getExercisesByIds(Collection<String> externalIds) {
+        return delegate.getExercisesByIds(externalIds);
+    }
+
+    /**
+     * Number of calls currently waiting on ExerciseDB.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(String call, Supplier<T> upstream) {
+        String key = ExerciseDbPriority.current() + ":" + call;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            deduplicatedCalls.increment();
+            return (T) await(existing);
+        }
+
+        upstreamCalls.increment();
+        try {
+            T result = upstream.get();
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too, so waiters are never left hanging
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
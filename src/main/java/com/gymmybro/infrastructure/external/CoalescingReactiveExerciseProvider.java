@@ -0,0 +1,132 @@
+package com.gymmybro.infrastructure.external;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.service.ReactiveExerciseProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of {@link CoalescingExerciseProvider}.
+ * Concurrent identical calls (same method, arguments and quota lane) share
+ * one upstream subscription and its result or failure. The shared call runs
+ * to completion even if the subscriber that started it cancels, so the
+ * others are never left without an answer.
+ */
+public class CoalescingReactiveExerciseProvider implements ReactiveExerciseProvider {
+
+    private final ReactiveExerciseProvider delegate;
+    private final ConcurrentMap<String, Sinks.One<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter upstreamCalls;
+    private final Counter deduplicatedCalls;
+
+    public CoalescingReactiveExerciseProvider(ReactiveExerciseProvider delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.upstreamCalls = Counter.builder("exercisedb.coalescing.calls")
+                .description("Upstream ExerciseDB calls after request coalescing")
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.deduplicatedCalls = Counter.builder("exercisedb.coalescing.calls")
+                .description("Upstream ExerciseDB calls after request coalescing")
+                .tag("result", "deduplicated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> fetchAllExercises(int limit, int offset) {
+        return coalesceList("fetchAll:" + limit + ":" + offset, () -> delegate.fetchAllExercises(limit, offset));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> searchByName(String name) {
+        return coalesceList("search:" + name, () -> delegate.searchByName(name));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByBodyPart(String bodyPart) {
+        return coalesceList("bodyPart:" + bodyPart, () -> delegate.filterByBodyPart(bodyPart));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByTarget(String target) {
+        return coalesceList("target:" + target, () -> delegate.filterByTarget(target));
+    }
+
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByEquipment(String equipment) {
+        return coalesceList("equipment:" + equipment, () -> delegate.filterByEquipment(equipment));
+    }
+
+    @Override
+    public Flux<String> getBodyParts() {
+        return coalesceList("bodyParts", delegate::getBodyParts);
+    }
+
+    @Override
+    public Flux<String> getTargets() {
+        return coalesceList("targets", delegate::getTargets);
+    }
+
+    @Override
+    public Flux<String> getEquipment() {
+        return coalesceList("equipment", delegate::getEquipment);
+    }
+
+    @Override
+    public Mono<ExerciseDbApiResponse> getExerciseById(String externalId) {
+        return coalesce("exercise:" + externalId, () -> delegate.getExerciseById(externalId));
+    }
+
+    /**
+     * Batches are rarely identical, so they are passed straight through.
+     */
+    @Override
+    public Mono<Map<String, ExerciseDbApiResponse>> getExercisesByIds(Collection<String> externalIds) {
+        return delegate.getExercisesByIds(externalIds);
+    }
+
+    /**
+     * Number of calls currently waiting on ExerciseDB.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private <T> Flux<T> coalesceList(String call, Supplier<Flux<T>> upstream) {
+        return this.<List<T>>coalesce(call, () -> upstream.get().collectList())
+                .flatMapIterable(Function.identity());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> coalesce(String call, Supplier<Mono<T>> upstream) {
+        return Mono.deferContextual(context -> {
+            ExerciseDbPriority lane = ExerciseDbPriority.of(context);
+            String key = lane + ":" + call;
+            Sinks.One<Object> mine = Sinks.one();
+            Sinks.One<Object> existing = inFlight.putIfAbsent(key, mine);
+
+            if (existing != null) {
+                deduplicatedCalls.increment();
+                return existing.asMono().map(result -> (T) result);
+            }
+
+            upstreamCalls.increment();
+            Mono.defer(upstream)
+                    .contextWrite(lane::writeTo)
+                    .doFinally(signal -> inFlight.remove(key, mine))
+                    .subscribe(mine::tryEmitValue, mine::tryEmitError, mine::tryEmitEmpty);
+            return mine.asMono().map(result -> (T) result);
+        });
+    }
+}
@@ -1,79 +1,39 @@
 package com.gymmybro.infrastructure.external;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
-import com.gymmybro.config.ExerciseDbConfig;
 import com.gymmybro.application.service.ExerciseProvider;
-import lombok.Data;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
- * HTTP client for ExerciseDB API (RapidAPI).
- * Fetches exercise data for catalog population.
+ * Blocking HTTP client for ExerciseDB API (RapidAPI).
+ * Thin adapter over {@link ReactiveExerciseDbClient} for callers that need a
+ * synchronous {@link ExerciseProvider} (catalog loads, plan validation).
+ * Calls are metered in the calling thread's {@link ExerciseDbPriority} lane.
  */
 @Component
-@Slf4j
+@RequiredArgsConstructor
 public class ExerciseDbClient implements ExerciseProvider {
 
-    private final WebClient webClient;
-    private final ExerciseDbConfig config;
-
-    public ExerciseDbClient(ExerciseDbConfig config, WebClient.Builder webClientBuilder) {
-        this.config = config;
-        
-        WebClient.Builder builder = webClientBuilder
-                .baseUrl(config.getBaseUrl())
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-        
-        // Add RapidAPI headers if configured
-        if (config.isRapidApiEnabled()) {
-            builder.defaultHeader("X-RapidAPI-Key", config.getApiKey())
-                   .defaultHeader("X-RapidAPI-Host", config.getHost());
-            log.info("ExerciseDB client configured with RapidAPI authentication");
-        } else {
-            log.warn("ExerciseDB client running without RapidAPI key - some features may not work");
-        }
-        
-        this.webClient = builder.build();
-    }
+    private final ReactiveExerciseDbClient reactiveClient;
 
     /**
      * Fetch all exercises with pagination.
-     * 
+     *
      * @param limit  Number of exercises to fetch (max 1000)
      * @param offset Starting position
      * @return List of exercises from API
+     * @throws RuntimeException if ExerciseDB returns an error status
      */
     @Override
     public List<ExerciseDbApiResponse> fetchAllExercises(int limit, int offset) {
-        log.info("Fetching exercises from ExerciseDB: limit={}, offset={}", limit, offset);
-
-        try {
-            ExerciseDbResponseWrapper<ExerciseDbApiResponse> response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/api/v1/exercises")
-                            .queryParam("limit", limit)
-                            .queryParam("offset", offset)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(
-                            new org.springframework.core.ParameterizedTypeReference<ExerciseDbResponseWrapper<ExerciseDbApiResponse>>() {
-                            })
-                    .block();
-
-            return response != null && response.getData() != null ? response.getData() : Collections.emptyList();
-        } catch (WebClientResponseException e) {
-            log.error("ExerciseDB API error: {} - {}", e.getStatusCode(), e.getMessage());
-            throw new RuntimeException("Failed to fetch exercises from ExerciseDB: " + e.getMessage(), e);
-        }
+        return blockList(reactiveClient.fetchAllExercises(limit, offset));
     }
 
     /**
@@ -81,8 +41,7 @@ public class ExerciseDbClient implements ExerciseProvider {
      */
     @Override
     public List<ExerciseDbApiResponse> searchByName(String name) {
-        log.info("Searching exercises by name: {}", name);
-        return fetchListFromEndpoint("/api/v1/exercises/search?q=" + name);
+        return blockList(reactiveClient.searchByName(name));
     }
 
     /**
@@ -90,8 +49,7 @@ public class ExerciseDbClient implements ExerciseProvider {
      */
     @Override
     public List<ExerciseDbApiResponse> filterByBodyPart(String bodyPart) {
-        log.info("Filtering exercises by body part: {}", bodyPart);
-        return fetchListFromEndpoint("/api/v1/exercises/filter?bodyParts=" + bodyPart);
+        return blockList(reactiveClient.filterByBodyPart(bodyPart));
     }
 
     /**
@@ -99,8 +57,7 @@ public class ExerciseDbClient implements ExerciseProvider {
      */
     @Override
     public List<ExerciseDbApiResponse> filterByTarget(String target) {
-        log.info("Filtering exercises by target: {}", target);
-        return fetchListFromEndpoint("/api/v1/exercises/filter?muscles=" + target);
+        return blockList(reactiveClient.filterByTarget(target));
     }
 
     /**
@@ -108,8 +65,7 @@ public class ExerciseDbClient implements ExerciseProvider {
      */
     @Override
     public List<ExerciseDbApiResponse> filterByEquipment(String equipment) {
-        log.info("Filtering exercises by equipment: {}", equipment);
-        return fetchListFromEndpoint("/api/v1/exercises/filter?equipment=" + equipment);
+        return blockList(reactiveClient.filterByEquipment(equipment));
     }
 
     /**
@@ -117,7 +73,7 @@ public class ExerciseDbClient implements ExerciseProvider {
      */
     @Override
     public List<String> getBodyParts() {
-        return fetchListStrings("/api/v1/bodyparts");
+        return blockList(reactiveClient.getBodyParts());
     }
 
     /**
@@ -125,7 +81,7 @@ public class ExerciseDbClient implements ExerciseProvider {
      */
     @Override
     public List<String> getTargets() {
-        return fetchListStrings("/api/v1/muscles");
+        return blockList(reactiveClient.getTargets());
     }
 
     /**
@@ -133,49 +89,7 @@ public class ExerciseDbClient implements ExerciseProvider {
      */
     @Override
     public List<String> getEquipment() {
-        return fetchListStrings("/api/v1/equipments");
-    }
-
-    private List<ExerciseDbApiResponse> fetchListFromEndpoint(String path) {
-        try {
-            ExerciseDbResponseWrapper<ExerciseDbApiResponse> response = webClient.get()
-                    .uri(path)
-                    .retrieve()
-                    .bodyToMono(
-                            new org.springframework.core.ParameterizedTypeReference<ExerciseDbResponseWrapper<ExerciseDbApiResponse>>() {
-                            })
-                    .block();
-
-            return response != null && response.getData() != null ? response.getData() : Collections.emptyList();
-        } catch (WebClientResponseException e) {
-            log.error("ExerciseDB API error for {}: {} - {}", path, e.getStatusCode(), e.getMessage());
-            return Collections.emptyList();
-        }
-    }
-
-    private List<String> fetchListStrings(String path) {
-        try {
-            ExerciseDbResponseWrapper<ExerciseDbNamedItem> response = webClient.get()
-                    .uri(path)
-                    .retrieve()
-                    .bodyToMono(
-                            new org.springframework.core.ParameterizedTypeReference<ExerciseDbResponseWrapper<ExerciseDbNamedItem>>() {
-                            })
-                    .block();
-
-            return response != null && response.getData() != null
-                    ? response.getData().stream().map(ExerciseDbNamedItem::getName).toList()
-                    : Collections.emptyList();
-        } catch (WebClientResponseException e) {
-            log.error("ExerciseDB API error for {}: {} - {}", path, e.getStatusCode(), e.getMessage());
-            return Collections.emptyList();
-        }
-    }
-
-    @Data
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class ExerciseDbNamedItem {
-        private String name;
+        return blockList(reactiveClient.getEquipment());
     }
 
     /**
@@ -183,26 +97,31 @@ public class ExerciseDbClient implements ExerciseProvider {
      *
      * @param externalId The ExerciseDB ID (e.g., "0001")
      * @return Exercise details or null if not found
+     * @throws RuntimeException if ExerciseDB returns an error status
      */
     @Override
     public ExerciseDbApiResponse getExerciseById(String externalId) {
-        log.info("Fetching exercise by ID: {}", externalId);
-
-        try {
-            return webClient.get()
-                    .uri("/api/v1/exercises/exercise/{id}", externalId)
-                    .retrieve()
-                    .bodyToMono(ExerciseDbApiResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("ExerciseDB error fetching exercise {}: {}", externalId, e.getMessage());
-            throw new RuntimeException("Failed to fetch exercise from ExerciseDB: " + e.getMessage(), e);
-        }
+        return block(reactiveClient.getExerciseById(externalId));
     }
 
-    @Data
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class ExerciseDbResponseWrapper<T> {
-        private List<T> data;
+    /**
+     * Fetch several exercises by ID with bounded parallelism, blocking once for the whole batch.
+     */
+    @Override
+    public Map<String, ExerciseDbApiResponse> getExercisesByIds(Collection<String> externalIds) {
+        Map<String, ExerciseDbApiResponse> found = block(reactiveClient.getExercisesByIds(externalIds));
+        return found != null ? found : Map.of();
+    }
+
+    private static <T> List<T> blockList(Flux<T> call) {
+        List<T> result = block(call.collectList());
+        return result != null ? result : List.of();
+    }
+
+    /**
+     * Block on {@code call}, carrying the calling thread's quota lane into it.
+     */
+    private static <T> T block(Mono<T> call) {
+        return call.contextWrite(ExerciseDbPriority.current()::writeTo).block();
     }
 }
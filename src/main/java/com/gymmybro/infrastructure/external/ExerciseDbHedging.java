@@ -0,0 +1,161 @@
+package com.gymmybro.infrastructure.external;
+
+import com.gymmybro.config.ExerciseDbConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Hedged requests for idempotent ExerciseDB lookups.
+ * If a call has not answered by the endpoint's observed latency percentile
+ * (p95 by default), one duplicate is sent and the first answer wins; the
+ * other is cancelled. A call that fails before the hedge is sent fails
+ * at once; after that, a failure only counts once neither call can answer,
+ * and the first failure is propagated. Hedges are paid for from a token
+ * budget that every request tops up by {@code budget-percent / 100}, which
+ * caps the extra load at that share of traffic. Hedges are also skipped once the
+ * day's RapidAPI quota is down to the share reserved for interactive calls.
+ * Callers take quota for the primary call outside the hedge, so pacing
+ * waits are not timed; the hedge takes its own spare permit when it fires.
+ *
+ * <p>Metrics: {@code exercisedb.hedge.delay} (ms, per endpoint) and
+ * {@code exercisedb.hedge.requests} with result sent / budget_exhausted.
+ */
+@Component
+public class ExerciseDbHedging {
+
+    private static final int DECAY_EVERY = 2000;
+    private static final double MAX_BUDGET_TOKENS = 10;
+
+    private final ExerciseDbConfig.Hedging settings;
+    private final MeterRegistry meterRegistry;
+    private final ExerciseDbQuota quota;
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Counter hedgesSent;
+    private final Counter hedgesDenied;
+
+    private double budgetTokens;
+
+    public ExerciseDbHedging(ExerciseDbConfig config, MeterRegistry meterRegistry, ExerciseDbQuota quota) {
+        this.settings = config.getHedging();
+        this.meterRegistry = meterRegistry;
+        this.quota = quota;
+        this.hedgesSent = Counter.builder("exercisedb.hedge.requests")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.hedgesDenied = Counter.builder("exercisedb.hedge.requests")
+                .tag("result", "budget_exhausted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run {@code call}, sending one duplicate subscription if it is slow.
+     * {@code call} must be cold and idempotent: each subscription is a new request.
+     * Each attempt runs through {@code guard} (the circuit breaker and
+     * concurrency limit) outside the timing, so a call the guard rejects
+     * without reaching ExerciseDB is not recorded as a near-zero latency.
+     */
+    public <T> Mono<T> hedge(String endpoint, Mono<T> call, UnaryOperator<Mono<T>> guard) {
+        return Mono.defer(() -> {
+            LatencyHistogram histogram = histogram(endpoint);
+            Duration delay = hedgeDelay(histogram);
+            if (delay == null) {
+                return guard.apply(timed(histogram, call, true));
+            }
+            depositBudget();
+
+            AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+            Sinks.One<Boolean> primaryFailed = Sinks.one();
+            Mono<Optional<T>> primary = answer(guard.apply(timed(histogram, call, true)), firstFailure)
+                    .doOnError(e -> primaryFailed.tryEmitValue(true));
+            Mono<Optional<T>> backup = Mono.delay(delay)
+                    .takeUntilOther(primaryFailed.asMono())
+                    .flatMap(tick -> {
+                        if (!withdrawBudget() || !quota.acquireSpare(endpoint)) {
+                            hedgesDenied.increment();
+                            return Mono.<Optional<T>>empty();
+                        }
+                        hedgesSent.increment();
+                        return answer(guard.apply(timed(histogram, call, false)), firstFailure);
+                    });
+
+            return Mono.firstWithValue(primary, backup)
+                    .onErrorMap(NoSuchElementException.class,
+                            e -> firstFailure.get() != null ? firstFailure.get() : e)
+                    .flatMap(Mono::justOrEmpty);
+        });
+    }
+
+    /**
+     * An empty result is an answer too, so it must win the race rather than
+     * leave it waiting on the other call.
+     */
+    private static <T> Mono<Optional<T>> answer(Mono<T> call, AtomicReference<Throwable> firstFailure) {
+        return call.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnError(e -> firstFailure.compareAndSet(null, e));
+    }
+
+    /**
+     * Record how long {@code call} took, whether it answered or failed.
+     * A cancelled primary is recorded too, since it was cancelled for being
+     * slow; a cancelled hedge only lost the race and would skew the percentile low.
+     */
+    private <T> Mono<T> timed(LatencyHistogram histogram, Mono<T> call, boolean recordCancel) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return call.doFinally(signal -> {
+                if (signal != SignalType.CANCEL || recordCancel) {
+                    histogram.record(System.nanoTime() - started);
+                }
+            });
+        });
+    }
+
+    /**
+     * Delay before hedging, or null if hedging is off or there are too few samples yet.
+     */
+    private Duration hedgeDelay(LatencyHistogram histogram) {
+        if (!settings.isEnabled() || histogram.samples() < settings.getMinSamples()) {
+            return null;
+        }
+        long millis = (long) Math.ceil(histogram.percentileMillis(settings.getPercentile()));
+        return Duration.ofMillis(Math.max(millis, settings.getMinDelay().toMillis()));
+    }
+
+    private synchronized void depositBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + settings.getBudgetPercent() / 100.0);
+    }
+
+    private synchronized boolean withdrawBudget() {
+        if (budgetTokens < 1) {
+            return false;
+        }
+        budgetTokens--;
+        return true;
+    }
+
+    private LatencyHistogram histogram(String endpoint) {
+        return histograms.computeIfAbsent(endpoint, key -> {
+            LatencyHistogram histogram = new LatencyHistogram(DECAY_EVERY);
+            Gauge.builder("exercisedb.hedge.delay", histogram,
+                    h -> h.samples() < settings.getMinSamples() ? 0 : h.percentileMillis(settings.getPercentile()))
+                    .description("Observed latency percentile after which ExerciseDB calls are hedged (ms)")
+                    .tag("endpoint", key)
+                    .register(meterRegistry);
+            return histogram;
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.gymmybro.infrastructure.external;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.function.Supplier;
+
+/**
+ * Quota lane of an ExerciseDB call.
+ * Reactive callers set it in the subscriber context; blocking callers set it
+ * for the current thread and the blocking client copies it into the context.
+ * Calls without a lane are treated as interactive.
+ */
+public enum ExerciseDbPriority {
+
+    /**
+     * A user is waiting on the answer.
+     */
+    INTERACTIVE,
+
+    /**
+     * Refreshes, syncs and other work nobody is waiting on.
+     */
+    BACKGROUND;
+
+    static final String CONTEXT_KEY = ExerciseDbPriority.class.getName();
+
+    private static final ThreadLocal<ExerciseDbPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    /**
+     * Lane of the current thread.
+     */
+    public static ExerciseDbPriority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Lane set in a subscriber context; interactive if none is set.
+     */
+    public static ExerciseDbPriority of(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, INTERACTIVE);
+    }
+
+    /**
+     * Run {@code work} with this lane set for the current thread.
+     */
+    public <T> T call(Supplier<T> work) {
+        ExerciseDbPriority previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return work.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    public void run(Runnable work) {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Put this lane into a subscriber context ({@code flux.contextWrite(BACKGROUND::writeTo)}).
+     */
+    public Context writeTo(Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+}
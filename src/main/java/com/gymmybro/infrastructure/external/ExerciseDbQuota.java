@@ -0,0 +1,328 @@
+package com.gymmybro.infrastructure.external;
+
+import com.gymmybro.config.ExerciseDbConfig;
+import com.gymmybro.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RapidAPI quota manager for ExerciseDB calls.
+ *
+ * <p>Each calendar day (UTC) gets a budget: the configured daily limit, or
+ * the monthly quota left spread evenly over the days left, so the month
+ * never runs dry mid-day. Requests are paced by a token bucket refilled at
+ * {@code budget / 24h} with {@code burst} capacity.
+ * <ul>
+ * <li>Interactive requests are never paced; they only fail once the day's
+ * budget is spent.</li>
+ * <li>Background requests reserve a bucket token and wait for it (up to
+ * {@code max-background-wait}), and may not touch the share of the daily
+ * budget reserved for interactive traffic.</li>
+ * </ul>
+ * Hedges take a spare permit that never waits. Usage is counted in memory
+ * per attempt (hedges included) and reconciled
+ * with the remaining/limit headers RapidAPI returns. Those cover every
+ * instance sharing the API key and survive restarts, so month usage, today's
+ * usage and today's budget are recomputed from them. After a restart, usage
+ * earlier in the day is unknown, so the day's budget restarts from the quota
+ * then left.
+ */
+@Component
+@Slf4j
+public class ExerciseDbQuota {
+
+    static final String REMAINING_HEADER = "x-ratelimit-requests-remaining";
+    static final String LIMIT_HEADER = "x-ratelimit-requests-limit";
+
+    private final ExerciseDbConfig.Quota settings;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private LocalDate day;
+    private YearMonth month;
+    private long usedToday;
+    private long usedThisMonth;
+    private long dailyBudget;
+    private long usedAtDayStart;
+    private boolean usageReconciled;
+    private double tokens;
+    private long lastRefillNanos;
+    private Long upstreamRemaining;
+    private Long upstreamLimit;
+
+    public ExerciseDbQuota(ExerciseDbConfig config, MeterRegistry meterRegistry) {
+        this(config, meterRegistry, Clock.systemUTC());
+    }
+
+    ExerciseDbQuota(ExerciseDbConfig config, MeterRegistry meterRegistry, Clock clock) {
+        this.settings = config.getQuota();
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.tokens = settings.getBurst();
+        this.lastRefillNanos = System.nanoTime();
+        rollOver();
+    }
+
+    /**
+     * Take quota for one upstream request before subscribing to {@code call}.
+     */
+    public <T> Mono<T> acquire(String endpoint, Mono<T> call) {
+        return Mono.deferContextual(context -> permit(endpoint, context).then(call));
+    }
+
+    public <T> Flux<T> acquireMany(String endpoint, Flux<T> call) {
+        return Flux.deferContextual(context -> permit(endpoint, context).thenMany(call));
+    }
+
+    /**
+     * Take quota for an optional extra request, such as a hedge, without
+     * waiting for pacing. Granted only while today's budget outside the
+     * interactive reserve is not spent.
+     *
+     * @return Whether the request may be sent
+     */
+    public boolean acquireSpare(String endpoint) {
+        if (!settings.isEnabled()) {
+            return true;
+        }
+        boolean granted;
+        synchronized (this) {
+            rollOver();
+            refill();
+            granted = usedToday < backgroundBudget();
+            if (granted) {
+                tokens -= 1;
+                count();
+            }
+        }
+        meterRegistry.counter("exercisedb.quota.requests", "lane", "spare",
+                "result", granted ? "granted" : "rejected", "endpoint", endpoint).increment();
+        return granted;
+    }
+
+    /**
+     * Background requests that can be sent right now without waiting for
+     * pacing or touching the interactive reserve; at least 1.
+     */
+    public synchronized int backgroundAllowance() {
+        if (!settings.isEnabled()) {
+            return Integer.MAX_VALUE;
+        }
+        rollOver();
+        refill();
+        long budgetLeft = backgroundBudget() - usedToday;
+        return (int) Math.max(1, Math.min((long) Math.floor(tokens), budgetLeft));
+    }
+
+    /**
+     * Record the quota state RapidAPI reports on a response.
+     */
+    public void observe(HttpHeaders headers) {
+        Long remaining = parse(headers.getFirst(REMAINING_HEADER));
+        Long limit = parse(headers.getFirst(LIMIT_HEADER));
+        if (remaining == null && limit == null) {
+            return;
+        }
+        synchronized (this) {
+            rollOver();
+            if (remaining != null) {
+                upstreamRemaining = remaining;
+            }
+            if (limit != null) {
+                upstreamLimit = limit;
+            }
+            if (upstreamRemaining != null) {
+                reconcile();
+            }
+        }
+    }
+
+    /**
+     * Current usage and budgets, for the actuator endpoint.
+     */
+    public synchronized Map<String, Object> snapshot() {
+        rollOver();
+        refill();
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("enabled", settings.isEnabled());
+        state.put("day", day.toString());
+        state.put("dailyBudget", dailyBudget);
+        state.put("usedToday", usedToday);
+        state.put("remainingToday", Math.max(dailyBudget - usedToday, 0));
+        state.put("backgroundRemainingToday", Math.max(backgroundBudget() - usedToday, 0));
+        state.put("month", month.toString());
+        state.put("monthlyLimit", monthlyLimit());
+        state.put("usedThisMonth", usedThisMonth);
+        state.put("remainingThisMonth", monthlyRemaining());
+        state.put("upstreamLimit", upstreamLimit);
+        state.put("upstreamRemaining", upstreamRemaining);
+        state.put("pacingTokens", Math.round(tokens * 100) / 100.0);
+        return state;
+    }
+
+    private Mono<Void> permit(String endpoint, ContextView context) {
+        if (!settings.isEnabled()) {
+            return Mono.empty();
+        }
+        ExerciseDbPriority priority = ExerciseDbPriority.of(context);
+
+        Duration wait;
+        synchronized (this) {
+            rollOver();
+            refill();
+            wait = reserve(priority);
+        }
+
+        if (wait == null) {
+            meterRegistry.counter("exercisedb.quota.requests", "lane", lane(priority), "result", "rejected",
+                    "endpoint", endpoint).increment();
+            return Mono.error(new ServiceUnavailableException(priority == ExerciseDbPriority.INTERACTIVE
+                    ? "ExerciseDB daily quota exhausted"
+                    : "ExerciseDB quota reserved for interactive requests"));
+        }
+        meterRegistry.counter("exercisedb.quota.requests", "lane", lane(priority),
+                "result", wait.isZero() ? "granted" : "throttled", "endpoint", endpoint).increment();
+        return wait.isZero() ? Mono.empty() : Mono.delay(wait).then();
+    }
+
+    /**
+     * @return How long to wait before sending, or null if the request is rejected
+     */
+    private Duration reserve(ExerciseDbPriority priority) {
+        if (priority == ExerciseDbPriority.INTERACTIVE) {
+            if (usedToday >= dailyBudget || monthlyRemaining() == 0) {
+                return null;
+            }
+            // Interactive requests may drive the bucket negative, pushing background work back
+            tokens -= 1;
+            count();
+            return Duration.ZERO;
+        }
+
+        if (usedToday >= backgroundBudget()) {
+            return null;
+        }
+        double waitSeconds = tokens >= 1 ? 0 : (1 - tokens) / refillPerSecond();
+        if (waitSeconds > settings.getMaxBackgroundWait().toSeconds()) {
+            return null;
+        }
+        tokens -= 1;
+        count();
+        return Duration.ofMillis((long) Math.ceil(waitSeconds * 1000));
+    }
+
+    private void count() {
+        usedToday++;
+        usedThisMonth++;
+        if (upstreamRemaining != null && upstreamRemaining > 0) {
+            upstreamRemaining--;
+        }
+    }
+
+    private long backgroundBudget() {
+        return dailyBudget * (100 - settings.getInteractiveReservePercent()) / 100;
+    }
+
+    private long monthlyLimit() {
+        return upstreamLimit != null ? upstreamLimit : settings.getMonthlyLimit();
+    }
+
+    private long monthlyRemaining() {
+        long remaining = Math.max(monthlyLimit() - usedThisMonth, 0);
+        return upstreamRemaining != null ? Math.min(remaining, upstreamRemaining) : remaining;
+    }
+
+    private double refillPerSecond() {
+        return Math.max(dailyBudget, 1) / 86_400.0;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(settings.getBurst(), tokens + (now - lastRefillNanos) / 1e9 * refillPerSecond());
+        lastRefillNanos = now;
+    }
+
+    /**
+     * Bring usage up to what RapidAPI reports for the whole key. Counts only
+     * ever go up here: a response may report a quota state older than
+     * requests this instance has already counted.
+     */
+    private void reconcile() {
+        long reportedThisMonth = Math.max(monthlyLimit() - upstreamRemaining, 0);
+        if (!usageReconciled) {
+            usedAtDayStart = Math.max(reportedThisMonth - usedToday, 0);
+            usageReconciled = true;
+        }
+        usedThisMonth = Math.max(usedThisMonth, reportedThisMonth);
+        usedToday = Math.max(usedToday, usedThisMonth - usedAtDayStart);
+
+        long budget = dailyBudget(Math.max(monthlyLimit() - usedAtDayStart, 0));
+        if (budget != dailyBudget) {
+            log.info("ExerciseDB quota for {} recomputed from RapidAPI: {} requests ({} used)",
+                    day, budget, usedToday);
+            dailyBudget = budget;
+        }
+    }
+
+    /**
+     * Reset counters on a new day or month and recompute the daily budget.
+     */
+    private void rollOver() {
+        LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        if (today.equals(day)) {
+            return;
+        }
+        YearMonth currentMonth = YearMonth.from(today);
+        if (!currentMonth.equals(month)) {
+            month = currentMonth;
+            usedThisMonth = 0;
+            upstreamRemaining = null;
+            usageReconciled = false;
+        }
+        day = today;
+        usedToday = 0;
+        usedAtDayStart = usedThisMonth;
+
+        dailyBudget = dailyBudget(monthlyRemaining());
+        log.info("ExerciseDB quota for {}: {} requests ({} left this month)", day, dailyBudget, monthlyRemaining());
+    }
+
+    /**
+     * Today's budget given the monthly quota left when the day began.
+     */
+    private long dailyBudget(long remainingAtDayStart) {
+        if (settings.getDailyLimit() > 0) {
+            return Math.min(settings.getDailyLimit(), remainingAtDayStart);
+        }
+        int daysLeft = month.lengthOfMonth() - day.getDayOfMonth() + 1;
+        return remainingAtDayStart / daysLeft;
+    }
+
+    private static String lane(ExerciseDbPriority priority) {
+        return priority.name().toLowerCase();
+    }
+
+    private static Long parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
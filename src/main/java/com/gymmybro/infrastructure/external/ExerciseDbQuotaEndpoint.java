@@ -0,0 +1,24 @@
+package com.gymmybro.infrastructure.external;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the RapidAPI quota state ({@code /actuator/exercisedbquota}).
+ */
+@Component
+@Endpoint(id = "exercisedbquota")
+@RequiredArgsConstructor
+public class ExerciseDbQuotaEndpoint {
+
+    private final ExerciseDbQuota quota;
+
+    @ReadOperation
+    public Map<String, Object> quota() {
+        return quota.snapshot();
+    }
+}
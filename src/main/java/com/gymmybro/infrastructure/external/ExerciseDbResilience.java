@@ -0,0 +1,165 @@
+package com.gymmybro.infrastructure.external;
+
+import com.gymmybro.config.ExerciseDbConfig;
+import com.gymmybro.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resilience layer for ExerciseDB calls.
+ * Every call gets a response timeout, goes through its endpoint's circuit
+ * breaker and takes a slot from a shared adaptive concurrency limit. Calls
+ * that are rejected (open circuit, limit reached) or time out fail fast with
+ * a ServiceUnavailableException, so callers fall back to cached data instead
+ * of queueing behind a slow upstream.
+ *
+ * <p>Metrics: {@code exercisedb.circuit.state} (0 closed, 1 half-open, 2 open),
+ * {@code exercisedb.resilience.rejections}, {@code exercisedb.resilience.timeouts},
+ * {@code exercisedb.concurrency.limit} and {@code exercisedb.concurrency.in_flight}.
+ */
+@Component
+@Slf4j
+public class ExerciseDbResilience {
+
+    private final ExerciseDbConfig.Resilience settings;
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveConcurrencyLimit limit;
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public ExerciseDbResilience(ExerciseDbConfig config, MeterRegistry meterRegistry) {
+        this.settings = config.getResilience();
+        this.meterRegistry = meterRegistry;
+        this.limit = new AdaptiveConcurrencyLimit(settings.getInitialLimit(), settings.getMinLimit(),
+                settings.getMaxLimit(), settings.getBackoffRatio(), settings.getLatencyTolerance());
+
+        Gauge.builder("exercisedb.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Adaptive limit on in-flight ExerciseDB calls")
+                .register(meterRegistry);
+        Gauge.builder("exercisedb.concurrency.in_flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("ExerciseDB calls currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run {@code call} under the endpoint's circuit breaker and the shared concurrency limit.
+     *
+     * @param endpoint Logical ExerciseDB endpoint, used as breaker and metric key
+     */
+    public <T> Mono<T> execute(String endpoint, Mono<T> call) {
+        return executeMany(endpoint, call.flux()).singleOrEmpty();
+    }
+
+    /**
+     * Streaming variant of {@link #execute(String, Mono)}. The slot is held
+     * until the stream terminates; the timeout applies to the gap between
+     * elements, and latency is sampled at the first element.
+     */
+    public <T> Flux<T> executeMany(String endpoint, Flux<T> call) {
+        return Flux.defer(() -> {
+            CircuitBreaker breaker = breaker(endpoint);
+            if (!breaker.tryAcquire()) {
+                rejected(endpoint, "circuit_open");
+                return Flux.error(new ServiceUnavailableException(
+                        "ExerciseDB " + endpoint + " is unavailable (circuit open)"));
+            }
+            if (!limit.tryAcquire()) {
+                breaker.onCancel();
+                rejected(endpoint, "concurrency_limit");
+                return Flux.error(new ServiceUnavailableException(
+                        "ExerciseDB " + endpoint + " is overloaded (concurrency limit reached)"));
+            }
+
+            long started = System.nanoTime();
+            AtomicLong firstSignalAt = new AtomicLong();
+            AtomicBoolean released = new AtomicBoolean();
+            Duration timeout = settings.getResponseTimeout();
+
+            return call
+                    .timeout(timeout)
+                    .doOnNext(item -> firstSignalAt.compareAndSet(0, System.nanoTime()))
+                    .doOnComplete(() -> {
+                        if (released.compareAndSet(false, true)) {
+                            limit.release(latency(started, firstSignalAt), false);
+                            breaker.onSuccess();
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (released.compareAndSet(false, true)) {
+                            boolean failure = isFailure(e);
+                            limit.release(latency(started, firstSignalAt), failure);
+                            if (failure) {
+                                breaker.onFailure();
+                            } else {
+                                breaker.onSuccess();
+                            }
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (released.compareAndSet(false, true)) {
+                            limit.release();
+                            breaker.onCancel();
+                        }
+                    })
+                    .onErrorMap(TimeoutException.class, e -> {
+                        meterRegistry.counter("exercisedb.resilience.timeouts", "endpoint", endpoint).increment();
+                        return new ServiceUnavailableException(
+                                "ExerciseDB " + endpoint + " did not respond within " + timeout.toMillis() + " ms", e);
+                    });
+        });
+    }
+
+    /**
+     * Current breaker state of an endpoint.
+     */
+    public String circuitState(String endpoint) {
+        return breaker(endpoint).getState().name();
+    }
+
+    private CircuitBreaker breaker(String endpoint) {
+        return breakers.computeIfAbsent(endpoint, key -> {
+            CircuitBreaker breaker = new CircuitBreaker(settings.getSlidingWindowSize(), settings.getMinimumCalls(),
+                    settings.getFailureRateThreshold(), settings.getOpenDuration(), settings.getHalfOpenCalls());
+            Gauge.builder("exercisedb.circuit.state", breaker, b -> b.getState().ordinal())
+                    .description("ExerciseDB circuit state (0 closed, 1 half-open, 2 open)")
+                    .tag("endpoint", key)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    private static long latency(long started, AtomicLong firstSignalAt) {
+        long first = firstSignalAt.get();
+        return (first != 0 ? first : System.nanoTime()) - started;
+    }
+
+    private void rejected(String endpoint, String reason) {
+        meterRegistry.counter("exercisedb.resilience.rejections", "endpoint", endpoint, "reason", reason)
+                .increment();
+        log.debug("ExerciseDB {} call rejected: {}", endpoint, reason);
+    }
+
+    /**
+     * Timeouts, connection errors, 5xx and 429 count against the breaker and
+     * the limit; other 4xx responses are the caller's problem, not ExerciseDB's.
+     */
+    private static boolean isFailure(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+}
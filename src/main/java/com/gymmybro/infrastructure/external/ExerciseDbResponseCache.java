@@ -0,0 +1,43 @@
+package com.gymmybro.infrastructure.external;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.config.ExerciseDbConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+
+/**
+ * ExerciseDB responses cached per method, shared by the blocking
+ * {@link CachingExerciseProvider} and the non-blocking
+ * {@link CachingReactiveExerciseProvider}, so a response fetched by either
+ * serves both. Each method has its own key space, TTL and size bound, so a
+ * burst of searches cannot evict single-exercise lookups.
+ */
+public class ExerciseDbResponseCache {
+
+    final StaleWhileRevalidateCache<String, List<ExerciseDbApiResponse>> pages;
+    final StaleWhileRevalidateCache<String, List<ExerciseDbApiResponse>> searches;
+    final StaleWhileRevalidateCache<String, List<ExerciseDbApiResponse>> filters;
+    final StaleWhileRevalidateCache<String, ExerciseDbApiResponse> exercises;
+    final StaleWhileRevalidateCache<String, List<String>> metadata;
+
+    public ExerciseDbResponseCache(ExerciseDbConfig.Cache settings, Executor refreshExecutor,
+            MeterRegistry meterRegistry) {
+        this.pages = new StaleWhileRevalidateCache<>("pages", settings.getTtl(),
+                settings.getMaxPages(), refreshExecutor, meterRegistry);
+        this.searches = new StaleWhileRevalidateCache<>("search", settings.getTtl(),
+                settings.getMaxSearches(), refreshExecutor, meterRegistry);
+        this.filters = new StaleWhileRevalidateCache<>("filter", settings.getTtl(),
+                settings.getMaxFilters(), refreshExecutor, meterRegistry);
+        this.exercises = new StaleWhileRevalidateCache<>("exercise", settings.getTtl(),
+                settings.getMaxExercises(), refreshExecutor, meterRegistry);
+        this.metadata = new StaleWhileRevalidateCache<>("metadata", settings.getMetadataTtl(),
+                8, refreshExecutor, meterRegistry);
+    }
+
+    static String key(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,152 @@
+package com.gymmybro.infrastructure.external;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams the elements of the top-level {@code "data"} array of an ExerciseDB
+ * response as they arrive.
+ *
+ * <p>Network buffers are fed into Jackson's non-blocking parser; the tokens of
+ * one array element are collected in a TokenBuffer and bound as soon as the
+ * element is complete. Only the element being parsed is held in memory, so
+ * heap use does not grow with the page size.
+ */
+final class ExerciseDbStreamingDecoder<T> {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
+
+    ExerciseDbStreamingDecoder(ObjectMapper objectMapper, Class<T> elementType) {
+        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(elementType);
+    }
+
+    Flux<T> decode(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            Session session;
+            try {
+                session = new Session();
+            } catch (IOException e) {
+                return Flux.error(new DecodingException("Could not create JSON parser", e));
+            }
+            return body
+                    .concatMapIterable(buffer -> {
+                        try {
+                            return session.feed(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(session.finish())))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .doFinally(signal -> session.close());
+        });
+    }
+
+    /**
+     * Parser state for one response body.
+     */
+    private final class Session {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        private int depth;
+        private boolean dataFieldNext;
+        private int dataDepth = -1;
+        private boolean dataDone;
+        private TokenBuffer element;
+
+        private Session() throws IOException {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<T> feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new DecodingException("Malformed ExerciseDB response: " + e.getMessage(), e);
+            }
+        }
+
+        List<T> finish() {
+            try {
+                feeder.endOfInput();
+                List<T> remaining = drain();
+                if (element != null || depth != 0) {
+                    throw new DecodingException("Truncated ExerciseDB response");
+                }
+                return remaining;
+            } catch (IOException e) {
+                throw new DecodingException("Malformed ExerciseDB response: " + e.getMessage(), e);
+            }
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // nothing left to release
+            }
+        }
+
+        private List<T> drain() throws IOException {
+            List<T> decoded = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (element != null) {
+                    element.copyCurrentEvent(parser);
+                    trackDepth(token);
+                    if (depth == dataDepth) {
+                        decoded.add(reader.readValue(element.asParser(objectMapper)));
+                        element = null;
+                    }
+                    continue;
+                }
+
+                trackDepth(token);
+                if (dataDone) {
+                    continue;
+                }
+                if (dataDepth < 0) {
+                    if (dataFieldNext && token == JsonToken.START_ARRAY && depth == 2) {
+                        dataDepth = depth;
+                    }
+                    dataFieldNext = depth == 1 && token == JsonToken.FIELD_NAME && "data".equals(parser.currentName());
+                } else if (depth < dataDepth) {
+                    // End of the data array; the rest of the body is only checked for well-formedness
+                    dataDone = true;
+                } else if (token == JsonToken.START_OBJECT && depth == dataDepth + 1) {
+                    element = new TokenBuffer(parser);
+                    element.copyCurrentEvent(parser);
+                }
+            }
+            return decoded;
+        }
+
+        private void trackDepth(JsonToken token) {
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.gymmybro.infrastructure.external;
+
+/**
+ * Log-bucketed latency histogram with exponential decay.
+ * Buckets grow by 20% from 1 ms up to about a minute, so percentiles are
+ * accurate to within one bucket. All counts are halved every
+ * {@code decayEvery} samples, so the histogram follows recent behaviour.
+ */
+class LatencyHistogram {
+
+    private static final double GROWTH = 1.2;
+    private static final int BUCKETS = 62;
+
+    private final long[] counts = new long[BUCKETS];
+    private final int decayEvery;
+    private long total;
+    private long samples;
+    private int sinceDecay;
+
+    LatencyHistogram(int decayEvery) {
+        this.decayEvery = Math.max(decayEvery, 1);
+    }
+
+    synchronized void record(long nanos) {
+        double millis = Math.max(nanos / 1_000_000.0, 1.0);
+        int bucket = Math.min((int) (Math.log(millis) / Math.log(GROWTH)), BUCKETS - 1);
+        counts[bucket]++;
+        total++;
+        samples++;
+
+        if (++sinceDecay >= decayEvery) {
+            sinceDecay = 0;
+            total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] >>= 1;
+                total += counts[i];
+            }
+        }
+    }
+
+    /**
+     * Samples recorded since creation (not decayed).
+     */
+    synchronized long samples() {
+        return samples;
+    }
+
+    /**
+     * Upper bound of the bucket holding the given percentile, in milliseconds,
+     * or 0 if the histogram is empty.
+     */
+    synchronized double percentileMillis(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.pow(GROWTH, i + 1);
+            }
+        }
+        return Math.pow(GROWTH, BUCKETS);
+    }
+}
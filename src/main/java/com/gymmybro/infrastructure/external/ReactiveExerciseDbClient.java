@@ -0,0 +1,287 @@
+package com.gymmybro.infrastructure.external;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.service.ReactiveExerciseProvider;
+import com.gymmybro.config.ExerciseDbConfig;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking HTTP client for ExerciseDB API (RapidAPI).
+ * All calls are plain WebClient pipelines; nothing here blocks a thread.
+ * Each call runs through {@link ExerciseDbResilience}: HTTP error statuses
+ * keep their previous handling, while timeouts and rejected calls surface
+ * as ServiceUnavailableException. Every attempt, hedges included, is then
+ * metered by {@link ExerciseDbQuota}. Single-exercise and list lookups are
+ * additionally hedged by {@link ExerciseDbHedging}; their quota is taken
+ * before the hedge starts, so a pacing wait neither counts as latency nor
+ * lets a hedge fire while the primary has not been sent.
+ */
+@Component
+@Slf4j
+public class ReactiveExerciseDbClient implements ReactiveExerciseProvider {
+
+    private static final ParameterizedTypeReference<ExerciseDbResponseWrapper<ExerciseDbApiResponse>> EXERCISE_PAGE =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final ParameterizedTypeReference<ExerciseDbResponseWrapper<ExerciseDbNamedItem>> NAMED_ITEMS =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final ExerciseDbResilience resilience;
+    private final ExerciseDbQuota quota;
+    private final ExerciseDbHedging hedging;
+    private final ExerciseDbStreamingDecoder<ExerciseDbApiResponse> pageDecoder;
+    private final int batchConcurrency;
+
+    public ReactiveExerciseDbClient(ExerciseDbConfig config, WebClient.Builder webClientBuilder,
+            ExerciseDbResilience resilience, ExerciseDbQuota quota, ExerciseDbHedging hedging,
+            ObjectMapper objectMapper) {
+        WebClient.Builder builder = webClientBuilder
+                .baseUrl(config.getBaseUrl())
+                .filter(ExchangeFilterFunction.ofResponseProcessor(response -> {
+                    quota.observe(response.headers().asHttpHeaders());
+                    return Mono.just(response);
+                }))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+
+        // Add RapidAPI headers if configured
+        if (config.isRapidApiEnabled()) {
+            builder.defaultHeader("X-RapidAPI-Key", config.getApiKey())
+                    .defaultHeader("X-RapidAPI-Host", config.getHost());
+            log.info("ExerciseDB client configured with RapidAPI authentication");
+        } else {
+            log.warn("ExerciseDB client running without RapidAPI key - some features may not work");
+        }
+
+        this.webClient = builder.build();
+        this.resilience = resilience;
+        this.quota = quota;
+        this.hedging = hedging;
+        this.pageDecoder = new ExerciseDbStreamingDecoder<>(objectMapper, ExerciseDbApiResponse.class);
+        this.batchConcurrency = Math.max(config.getBatchConcurrency(), 1);
+    }
+
+    /**
+     * Fetch all exercises with pagination.
+     * The page is decoded element by element as it arrives, so large pages
+     * can be consumed without buffering the whole response.
+     * Fails with a RuntimeException when ExerciseDB returns an error status.
+     *
+     * @param limit  Number of exercises to fetch (max 1000)
+     * @param offset Starting position
+     */
+    @Override
+    public Flux<ExerciseDbApiResponse> fetchAllExercises(int limit, int offset) {
+        log.info("Fetching exercises from ExerciseDB: limit={}, offset={}", limit, offset);
+
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/exercises")
+                        .queryParam("limit", limit)
+                        .queryParam("offset", offset)
+                        .build())
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .transform(pageDecoder::decode)
+                .transform(call -> resilience.executeMany("exercises", call))
+                .transform(call -> quota.acquireMany("exercises", call))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("ExerciseDB API error: {} - {}", e.getStatusCode(), e.getMessage());
+                    return new RuntimeException("Failed to fetch exercises from ExerciseDB: " + e.getMessage(), e);
+                });
+    }
+
+    /**
+     * Total number of exercises ExerciseDB reports in its page metadata,
+     * fetched with a one-record page. Empty if the metadata is missing or
+     * the call fails with an error status.
+     */
+    public Mono<Integer> fetchCatalogSize() {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/exercises")
+                        .queryParam("limit", 1)
+                        .queryParam("offset", 0)
+                        .build())
+                .retrieve()
+                .bodyToMono(EXERCISE_PAGE)
+                .transform(call -> resilience.execute("exercises", call))
+                .transform(call -> quota.acquire("exercises", call))
+                .mapNotNull(page -> page.getMetadata() != null ? page.getMetadata().getTotalExercises() : null)
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.warn("Could not read ExerciseDB catalog size: {} - {}", e.getStatusCode(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Search exercises by name.
+     */
+    @Override
+    public Flux<ExerciseDbApiResponse> searchByName(String name) {
+        log.info("Searching exercises by name: {}", name);
+        return fetchListFromEndpoint("search", "/api/v1/exercises/search?q=" + name);
+    }
+
+    /**
+     * Filter exercises by body part.
+     */
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByBodyPart(String bodyPart) {
+        log.info("Filtering exercises by body part: {}", bodyPart);
+        return fetchListFromEndpoint("filter", "/api/v1/exercises/filter?bodyParts=" + bodyPart);
+    }
+
+    /**
+     * Filter exercises by target muscle.
+     */
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByTarget(String target) {
+        log.info("Filtering exercises by target: {}", target);
+        return fetchListFromEndpoint("filter", "/api/v1/exercises/filter?muscles=" + target);
+    }
+
+    /**
+     * Filter exercises by equipment type.
+     */
+    @Override
+    public Flux<ExerciseDbApiResponse> filterByEquipment(String equipment) {
+        log.info("Filtering exercises by equipment: {}", equipment);
+        return fetchListFromEndpoint("filter", "/api/v1/exercises/filter?equipment=" + equipment);
+    }
+
+    /**
+     * Get list of all body parts.
+     */
+    @Override
+    public Flux<String> getBodyParts() {
+        return fetchListStrings("metadata", "/api/v1/bodyparts");
+    }
+
+    /**
+     * Get list of all target muscles.
+     */
+    @Override
+    public Flux<String> getTargets() {
+        return fetchListStrings("metadata", "/api/v1/muscles");
+    }
+
+    /**
+     * Get list of all equipment types.
+     */
+    @Override
+    public Flux<String> getEquipment() {
+        return fetchListStrings("metadata", "/api/v1/equipments");
+    }
+
+    /**
+     * Get a single exercise by its ExerciseDB ID.
+     * Fails with a RuntimeException when ExerciseDB returns an error status.
+     *
+     * @param externalId The ExerciseDB ID (e.g., "0001")
+     */
+    @Override
+    public Mono<ExerciseDbApiResponse> getExerciseById(String externalId) {
+        log.info("Fetching exercise by ID: {}", externalId);
+
+        return webClient.get()
+                .uri("/api/v1/exercises/exercise/{id}", externalId)
+                .retrieve()
+                .bodyToMono(ExerciseDbApiResponse.class)
+                .transform(call -> hedging.hedge("exercise", call, attempt -> resilience.execute("exercise", attempt)))
+                .transform(call -> quota.acquire("exercise", call))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("ExerciseDB error fetching exercise {}: {}", externalId, e.getMessage());
+                    return new RuntimeException("Failed to fetch exercise from ExerciseDB: " + e.getMessage(), e);
+                });
+    }
+
+    /**
+     * Fetch several exercises by ID, at most {@code exercisedb.batch-concurrency}
+     * requests in flight at a time. IDs ExerciseDB does not know are left out;
+     * any other error fails the whole batch.
+     */
+    @Override
+    public Mono<Map<String, ExerciseDbApiResponse>> getExercisesByIds(Collection<String> externalIds) {
+        log.info("Fetching {} exercises by ID", externalIds.size());
+
+        return Flux.fromIterable(new LinkedHashSet<>(externalIds))
+                .flatMapSequential(id -> getExerciseById(id)
+                        .onErrorResume(e -> e.getCause() instanceof WebClientResponseException.NotFound,
+                                e -> Mono.empty())
+                        .map(exercise -> Map.entry(id, exercise)), batchConcurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new);
+    }
+
+    private Flux<ExerciseDbApiResponse> fetchListFromEndpoint(String endpoint, String path) {
+        return webClient.get()
+                .uri(path)
+                .retrieve()
+                .bodyToMono(EXERCISE_PAGE)
+                .transform(call -> hedging.hedge(endpoint, call, attempt -> resilience.execute(endpoint, attempt)))
+                .transform(call -> quota.acquire(endpoint, call))
+                .flatMapIterable(ExerciseDbResponseWrapper::items)
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.error("ExerciseDB API error for {}: {} - {}", path, e.getStatusCode(), e.getMessage());
+                    return Flux.empty();
+                });
+    }
+
+    private Flux<String> fetchListStrings(String endpoint, String path) {
+        return webClient.get()
+                .uri(path)
+                .retrieve()
+                .bodyToMono(NAMED_ITEMS)
+                .transform(call -> hedging.hedge(endpoint, call, attempt -> resilience.execute(endpoint, attempt)))
+                .transform(call -> quota.acquire(endpoint, call))
+                .flatMapIterable(ExerciseDbResponseWrapper::items)
+                .mapNotNull(ExerciseDbNamedItem::getName)
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.error("ExerciseDB API error for {}: {} - {}", path, e.getStatusCode(), e.getMessage());
+                    return Flux.empty();
+                });
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class ExerciseDbNamedItem {
+        private String name;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class ExerciseDbPageMetadata {
+        private Integer totalExercises;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class ExerciseDbResponseWrapper<T> {
+        private List<T> data;
+        private ExerciseDbPageMetadata metadata;
+
+        List<T> items() {
+            return data != null ? data : List.of();
+        }
+    }
+}
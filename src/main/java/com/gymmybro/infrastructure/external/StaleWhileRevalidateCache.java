@@ -0,0 +1,216 @@
+package com.gymmybro.infrastructure.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-based cache that serves expired entries while revalidating them.
+ *
+ * <ul>
+ * <li>Fresh entry: returned as is.</li>
+ * <li>Expired entry: returned immediately; one background reload is started
+ * per key, in the background quota lane, and its result replaces the entry
+ * when it succeeds.</li>
+ * <li>Missing entry: loaded on the calling thread.</li>
+ * </ul>
+ * Reactive callers use the {@code Async} variants, which load and revalidate
+ * by subscribing instead of blocking a thread.
+ * Entries are evicted least-recently-used once {@code maxEntries} is reached.
+ */
+@Slf4j
+class StaleWhileRevalidateCache<K, V> {
+
+    private final String name;
+    private final long ttlNanos;
+    private final Executor refreshExecutor;
+    private final Map<K, CachedValue<V>> entries;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter refreshFailures;
+
+    StaleWhileRevalidateCache(String name, Duration ttl, int maxEntries, Executor refreshExecutor,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.ttlNanos = ttl.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        this.evictions = Counter.builder("exercisedb.cache.evictions")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("exercisedb.cache.refresh.failures")
+                .tag("cache", name)
+                .register(meterRegistry);
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("exercisedb.cache.size", this, StaleWhileRevalidateCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Return the cached value for {@code key}, loading it with {@code loader} on a miss.
+     * Null results are returned but not cached.
+     */
+    V get(K key, Supplier<V> loader) {
+        V cached = getIfPresent(key, loader);
+        if (cached != null) {
+            return cached;
+        }
+        V value = loader.get();
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Like {@link #get}, but returns null on a miss instead of loading, so the
+     * caller can load misses in bulk and {@link #put} them.
+     * Stale entries are still returned and revalidated with {@code loader}.
+     */
+    V getIfPresent(K key, Supplier<V> loader) {
+        CachedValue<V> entry = lookup(key, stale -> revalidate(key, stale, loader));
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Non-blocking {@link #get}: a miss subscribes to {@code loader} and caches
+     * its value, and a stale entry is revalidated by subscribing to
+     * {@code loader} in the background quota lane, without using the refresh
+     * executor.
+     */
+    Mono<V> getAsync(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            V cached = getIfPresentAsync(key, loader);
+            return cached != null
+                    ? Mono.just(cached)
+                    : loader.get().doOnNext(value -> put(key, value));
+        });
+    }
+
+    /**
+     * Non-blocking {@link #getIfPresent}.
+     */
+    V getIfPresentAsync(K key, Supplier<Mono<V>> loader) {
+        CachedValue<V> entry = lookup(key, stale -> revalidateAsync(key, stale, loader));
+        return entry != null ? entry.value : null;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CachedValue<V> lookup(K key, Consumer<CachedValue<V>> onStale) {
+        CachedValue<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (System.nanoTime() - entry.loadedAt < ttlNanos) {
+            hits.increment();
+        } else {
+            staleHits.increment();
+            onStale.accept(entry);
+        }
+        return entry;
+    }
+
+    private void revalidate(K key, CachedValue<V> entry, Supplier<V> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    put(key, ExerciseDbPriority.BACKGROUND.call(loader));
+                } catch (RuntimeException e) {
+                    refreshFailures.increment();
+                    log.warn("Background refresh of {} cache entry '{}' failed, serving stale value: {}",
+                            name, key, e.getMessage());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+            log.debug("Refresh of {} cache entry '{}' rejected: {}", name, key, e.getMessage());
+        }
+    }
+
+    private void revalidateAsync(K key, CachedValue<V> entry, Supplier<Mono<V>> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        Mono.defer(loader)
+                .contextWrite(ExerciseDbPriority.BACKGROUND::writeTo)
+                .doFinally(signal -> entry.refreshing.set(false))
+                .subscribe(value -> put(key, value), e -> {
+                    refreshFailures.increment();
+                    log.warn("Background refresh of {} cache entry '{}' failed, serving stale value: {}",
+                            name, key, e.getMessage());
+                });
+    }
+
+    void put(K key, V value) {
+        if (value == null) {
+            return;
+        }
+        synchronized (entries) {
+            // ExerciseDbClient reports list errors as empty lists; never let one replace a good value
+            if (value instanceof Collection<?> collection && collection.isEmpty() && entries.containsKey(key)) {
+                return;
+            }
+            entries.put(key, new CachedValue<>(value, System.nanoTime()));
+        }
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("exercisedb.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class CachedValue<V> {
+        private final V value;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CachedValue(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.gymmybro.infrastructure.media;
+
+import com.gymmybro.config.ExerciseDbConfig;
+import com.gymmybro.exception.ResourceNotFoundException;
+import com.gymmybro.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed disk cache for exercise GIFs and images.
+ *
+ * <p>Each source URL is downloaded once; the file is stored under the SHA-256
+ * of its content ({@code blobs/ab/abcd...}), and a small record under
+ * {@code sources/} maps the URL's hash to it, so URLs with identical content
+ * share one file and the cache survives restarts. Once the total size goes
+ * over {@code max-size}, least recently used files are evicted; a URL whose
+ * file was evicted is simply downloaded again. Evicted files are deleted,
+ * together with the {@code sources/} records pointing at them, only after
+ * {@code eviction-grace}, since a response may still be sending them, and
+ * are kept if the same content is stored again in the meantime.
+ *
+ * <p>Concurrent requests for the same URL share one download. Only image and
+ * video responses are accepted, so the proxy never serves markup from this
+ * origin.
+ */
+@Component
+@Slf4j
+public class ExerciseMediaCache {
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final ExerciseDbConfig.Media settings;
+    private final WebClient webClient;
+    private final Path blobs;
+    private final Path sources;
+    private final Path downloads;
+
+    /**
+     * Content hash to file size, least recently used first. Guarded by itself.
+     */
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * Evicted content hash to the time (nanos) its file may be deleted. Guarded by {@code files}.
+     */
+    private final Map<String, Long> pendingDeletes = new HashMap<>();
+
+    private final ConcurrentMap<String, ExerciseMediaFile> bySource = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Mono<ExerciseMediaFile>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter downloadsCompleted;
+    private final Counter evictions;
+
+    public ExerciseMediaCache(ExerciseDbConfig config, WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry) {
+        this.settings = config.getMedia();
+        Path root = Path.of(settings.getDirectory());
+        this.blobs = root.resolve("blobs");
+        this.sources = root.resolve("sources");
+        this.downloads = root.resolve("downloads");
+        // Media hosts are plain CDNs: no RapidAPI headers, quota or ExerciseDB base URL
+        this.webClient = webClientBuilder.build();
+
+        this.hits = Counter.builder("exercisedb.media.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.downloadsCompleted = Counter.builder("exercisedb.media.requests")
+                .tag("result", "download")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("exercisedb.media.evictions")
+                .register(meterRegistry);
+        Gauge.builder("exercisedb.media.size", this, ExerciseMediaCache::totalBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Index the files already on disk, oldest first, and drop partial downloads.
+     */
+    @PostConstruct
+    void loadIndex() throws IOException {
+        Files.createDirectories(blobs);
+        Files.createDirectories(sources);
+        Files.createDirectories(downloads);
+
+        try (Stream<Path> partial = Files.list(downloads)) {
+            partial.forEach(ExerciseMediaCache::deleteQuietly);
+        }
+
+        List<Path> stored;
+        try (Stream<Path> walk = Files.walk(blobs, 2)) {
+            stored = new ArrayList<>(walk.filter(Files::isRegularFile).toList());
+        }
+        stored.sort(Comparator.comparingLong(ExerciseMediaCache::lastModified));
+
+        synchronized (files) {
+            for (Path path : stored) {
+                long size = path.toFile().length();
+                files.put(path.getFileName().toString(), size);
+                totalBytes += size;
+            }
+        }
+        evict();
+        log.info("Exercise media cache at {}: {} files, {} bytes", blobs.getParent(), stored.size(), totalBytes());
+    }
+
+    /**
+     * Cached file for {@code sourceUrl}, downloading it first if needed.
+     *
+     * @throws ResourceNotFoundException   (signalled) if the media host does not have the file
+     * @throws ServiceUnavailableException (signalled) if the file cannot be fetched or stored
+     */
+    public Mono<ExerciseMediaFile> get(String sourceUrl) {
+        return Mono.defer(() -> {
+            ExerciseMediaFile cached = lookup(sourceUrl);
+            if (cached != null) {
+                hits.increment();
+                return Mono.just(cached);
+            }
+            return inFlight.computeIfAbsent(sourceUrl, url -> download(url)
+                    .doFinally(signal -> inFlight.remove(url))
+                    .cache());
+        });
+    }
+
+    long totalBytes() {
+        synchronized (files) {
+            return totalBytes;
+        }
+    }
+
+    private ExerciseMediaFile lookup(String sourceUrl) {
+        ExerciseMediaFile file = bySource.get(sourceUrl);
+        if (file == null) {
+            file = readSourceRecord(sourceUrl);
+        }
+        if (file == null) {
+            return null;
+        }
+
+        boolean present;
+        synchronized (files) {
+            // Also marks the file as recently used
+            present = files.get(file.contentHash()) != null;
+        }
+        if (!present) {
+            bySource.remove(sourceUrl);
+            return null;
+        }
+        bySource.put(sourceUrl, file);
+        return file;
+    }
+
+    private Mono<ExerciseMediaFile> download(String sourceUrl) {
+        Path partial = downloads.resolve(UUID.randomUUID() + ".part");
+        long maxBytes = settings.getMaxFileSize().toBytes();
+
+        return webClient.get()
+                .uri(URI.create(sourceUrl))
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .flatMap(entity -> {
+                    MediaType contentType = entity.getHeaders().getContentType();
+                    if (!isMedia(contentType)) {
+                        return Mono.error(new ServiceUnavailableException(
+                                "Media host returned " + contentType + " instead of an image"));
+                    }
+                    Flux<DataBuffer> body = entity.getBody() != null ? entity.getBody() : Flux.empty();
+                    return DataBufferUtils.write(DataBufferUtils.takeUntilByteCount(body, maxBytes + 1), partial)
+                            .then(Mono.fromCallable(() -> store(sourceUrl, partial, contentType, maxBytes))
+                                    .subscribeOn(Schedulers.boundedElastic()));
+                })
+                .timeout(settings.getFetchTimeout())
+                .doOnError(e -> deleteQuietly(partial))
+                .onErrorMap(e -> !(e instanceof ServiceUnavailableException), e -> {
+                    if (e instanceof WebClientResponseException.NotFound) {
+                        return new ResourceNotFoundException("Exercise media", "url", sourceUrl);
+                    }
+                    log.warn("Could not fetch exercise media {}: {}", sourceUrl, e.getMessage());
+                    return new ServiceUnavailableException("Could not fetch exercise media", e);
+                });
+    }
+
+    private ExerciseMediaFile store(String sourceUrl, Path partial, MediaType contentType, long maxBytes)
+            throws IOException {
+        long size = Files.size(partial);
+        if (size > maxBytes) {
+            throw new ServiceUnavailableException("Exercise media is larger than " + settings.getMaxFileSize());
+        }
+
+        String hash = sha256(partial);
+        Path blob = blobPath(hash);
+        Files.createDirectories(blob.getParent());
+
+        // Checked and registered together, so an eviction cannot delete the blob in between
+        boolean moved = false;
+        synchronized (files) {
+            pendingDeletes.remove(hash);
+            if (!Files.exists(blob)) {
+                Files.move(partial, blob, StandardCopyOption.ATOMIC_MOVE);
+                moved = true;
+            }
+            if (files.put(hash, size) == null) {
+                totalBytes += size;
+            }
+        }
+        if (!moved) {
+            deleteQuietly(partial);
+        }
+
+        ExerciseMediaFile file = new ExerciseMediaFile(blob, hash, contentType.toString(), size);
+        writeSourceRecord(sourceUrl, file);
+        bySource.put(sourceUrl, file);
+        downloadsCompleted.increment();
+        evict();
+        return file;
+    }
+
+    /**
+     * Evict least recently used files until the cache fits. The most recent
+     * file is always kept, even if it alone is over the limit.
+     */
+    private void evict() {
+        long maxBytes = settings.getMaxSize().toBytes();
+        long deleteAfter = System.nanoTime() + settings.getEvictionGrace().toNanos();
+        Set<String> evicted = new HashSet<>();
+
+        synchronized (files) {
+            Iterator<Map.Entry<String, Long>> eldest = files.entrySet().iterator();
+            while (totalBytes > maxBytes && files.size() > 1 && eldest.hasNext()) {
+                Map.Entry<String, Long> entry = eldest.next();
+                totalBytes -= entry.getValue();
+                evicted.add(entry.getKey());
+                pendingDeletes.put(entry.getKey(), deleteAfter);
+                eldest.remove();
+            }
+        }
+        if (evicted.isEmpty()) {
+            return;
+        }
+
+        bySource.values().removeIf(file -> evicted.contains(file.contentHash()));
+        evictions.increment(evicted.size());
+        log.debug("Evicted {} exercise media files", evicted.size());
+    }
+
+    /**
+     * Delete evicted files whose grace period is over, and their source records.
+     */
+    @Scheduled(fixedDelayString = "${exercisedb.media.eviction-grace:PT2M}")
+    public void deleteEvicted() {
+        long now = System.nanoTime();
+        Set<String> deleted = new HashSet<>();
+        synchronized (files) {
+            Iterator<Map.Entry<String, Long>> pending = pendingDeletes.entrySet().iterator();
+            while (pending.hasNext()) {
+                Map.Entry<String, Long> entry = pending.next();
+                if (now - entry.getValue() >= 0) {
+                    deleteQuietly(blobPath(entry.getKey()));
+                    deleted.add(entry.getKey());
+                    pending.remove();
+                }
+            }
+        }
+        if (!deleted.isEmpty()) {
+            deleteSourceRecords(deleted);
+        }
+    }
+
+    /**
+     * Records are keyed by URL, so the ones pointing at deleted files are found
+     * by reading their content hash. A record rewritten for content stored
+     * again meanwhile may go too; its URL is then just downloaded again.
+     */
+    private void deleteSourceRecords(Set<String> deletedHashes) {
+        try (Stream<Path> records = Files.list(sources)) {
+            records.filter(record -> deletedHashes.contains(recordHash(record)))
+                    .forEach(ExerciseMediaCache::deleteQuietly);
+        } catch (IOException e) {
+            log.debug("Could not clean up media records in {}: {}", sources, e.getMessage());
+        }
+    }
+
+    private static String recordHash(Path record) {
+        try (BufferedReader reader = Files.newBufferedReader(record, StandardCharsets.UTF_8)) {
+            return reader.readLine();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private ExerciseMediaFile readSourceRecord(String sourceUrl) {
+        Path record = sources.resolve(sha256(sourceUrl));
+        if (!Files.exists(record)) {
+            return null;
+        }
+        try {
+            List<String> lines = Files.readAllLines(record, StandardCharsets.UTF_8);
+            if (lines.size() < 3) {
+                return null;
+            }
+            String hash = lines.get(0);
+            return new ExerciseMediaFile(blobPath(hash), hash, lines.get(1), Long.parseLong(lines.get(2)));
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Ignoring unreadable media record {}: {}", record, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeSourceRecord(String sourceUrl, ExerciseMediaFile file) throws IOException {
+        Path record = sources.resolve(sha256(sourceUrl));
+        Path temp = downloads.resolve(UUID.randomUUID() + ".record");
+        Files.writeString(temp, file.contentHash() + "\n" + file.contentType() + "\n" + file.size() + "\n"
+                + sourceUrl + "\n", StandardCharsets.UTF_8);
+        Files.move(temp, record, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path blobPath(String hash) {
+        return blobs.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static boolean isMedia(MediaType contentType) {
+        return contentType != null
+                && ("image".equals(contentType.getType()) || "video".equals(contentType.getType()));
+    }
+
+    private static String sha256(Path path) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return hex(digest.digest());
+    }
+
+    private static String sha256(String value) {
+        return hex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private static long lastModified(Path path) {
+        return path.toFile().lastModified();
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+}
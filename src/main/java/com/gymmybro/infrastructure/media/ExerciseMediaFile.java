@@ -0,0 +1,21 @@
+package com.gymmybro.infrastructure.media;
+
+import java.nio.file.Path;
+
+/**
+ * A media file held in the local cache.
+ *
+ * @param path        Location of the file on disk
+ * @param contentHash SHA-256 of the file content, also its file name
+ * @param contentType Media type reported by the origin host
+ * @param size        File size in bytes
+ */
+public record ExerciseMediaFile(Path path, String contentHash, String contentType, long size) {
+
+    /**
+     * Strong entity tag; content addressed files never change under the same hash.
+     */
+    public String etag() {
+        return "\"" + contentHash + "\"";
+    }
+}
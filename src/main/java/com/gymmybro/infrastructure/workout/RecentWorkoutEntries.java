@@ -0,0 +1,66 @@
+package com.gymmybro.infrastructure.workout;
+
+import com.gymmybro.application.dto.response.WorkoutLogEntryResponse;
+import com.gymmybro.config.WorkoutConfig;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded, least recently used map of sets recently logged with a client entry
+ * ID, so a retried request is answered without touching the database.
+ * A key that has been evicted is still deduplicated by the unique constraint
+ * on {@code (workout_log_id, client_entry_id)}.
+ */
+@Component
+public class RecentWorkoutEntries {
+
+    private final int maxKeys;
+    private final LinkedHashMap<Key, WorkoutLogEntryResponse> entries;
+
+    public RecentWorkoutEntries(WorkoutConfig config) {
+        this.maxKeys = Math.max(config.getIdempotency().getRecentKeys(), 0);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, WorkoutLogEntryResponse> eldest) {
+                return size() > maxKeys;
+            }
+        };
+    }
+
+    public synchronized Optional<WorkoutLogEntryResponse> get(UUID workoutLogId, UUID clientEntryId) {
+        return Optional.ofNullable(entries.get(new Key(workoutLogId, clientEntryId)));
+    }
+
+    /**
+     * Remember a logged set. Inside a transaction it is only remembered after
+     * commit, so a set whose insert is rolled back is never answered from memory.
+     */
+    public void put(UUID workoutLogId, WorkoutLogEntryResponse entry) {
+        if (entry.getClientEntryId() == null || maxKeys <= 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(workoutLogId, entry);
+                }
+            });
+        } else {
+            remember(workoutLogId, entry);
+        }
+    }
+
+    private synchronized void remember(UUID workoutLogId, WorkoutLogEntryResponse entry) {
+        entries.put(new Key(workoutLogId, entry.getClientEntryId()), entry);
+    }
+
+    private record Key(UUID workoutLogId, UUID clientEntryId) {
+    }
+}
@@ -0,0 +1,310 @@
+package com.gymmybro.infrastructure.workout;
+
+import com.gymmybro.config.WorkoutConfig;
+import com.gymmybro.exception.BadRequestException;
+import com.gymmybro.domain.workout.WorkoutLogEntryRepository;
+import com.gymmybro.domain.workout.WorkoutLogEntryRepositoryCustom.PendingEntry;
+import com.gymmybro.domain.workout.WorkoutLogEntryTarget;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for sets logged during in-progress workouts.
+ *
+ * <p>Each set is appended to a local journal and kept in memory with the other
+ * pending sets of its workout log. Pending sets are written to the database in
+ * JDBC batches when a log reaches {@code flush-threshold} sets, every
+ * {@code flush-interval}, before a log is read or completed, and on shutdown.
+ * Logs are spread over a fixed set of locks, so sets of different workouts are
+ * buffered and flushed concurrently while sets of one workout stay ordered.
+ * A log that was closed stays marked as such for a while, so a set that was
+ * validated just before its workout completed is rejected rather than buffered
+ * for a log that is never flushed again.
+ * After a crash, the journal is replayed on startup; inserts skip IDs that
+ * were already written, so replay is lossless and never duplicates a set.
+ */
+@Component
+@Slf4j
+public class WorkoutEntryBuffer {
+
+    /**
+     * Sessions without new sets for this long are treated as abandoned and forgotten once flushed.
+     */
+    private static final Duration IDLE_SESSION = Duration.ofHours(6);
+
+    private final WorkoutLogEntryRepository entryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkoutConfig.WriteBehind settings;
+    private final ReentrantLock[] stripes;
+    private final Map<UUID, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<UUID, Instant> closedAt = new ConcurrentHashMap<>();
+    private WorkoutEntryJournal journal;
+
+    public WorkoutEntryBuffer(WorkoutLogEntryRepository entryRepository,
+            PlatformTransactionManager transactionManager, WorkoutConfig config) {
+        this.entryRepository = entryRepository;
+        this.settings = config.getWriteBehind();
+        // Flushes commit on their own, also when triggered from a read-only or failing request
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stripes = new ReentrantLock[Math.max(settings.getLockStripes(), 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Open the journal and queue entries left by a previous run. A journal left
+     * behind is recovered even when write-behind has since been disabled.
+     */
+    @PostConstruct
+    void recover() throws IOException {
+        Path path = Path.of(settings.getJournalFile());
+        if (!settings.isEnabled() && !Files.isRegularFile(path)) {
+            return;
+        }
+
+        journal = new WorkoutEntryJournal(path, settings.isFsync());
+        List<PendingEntry> recovered = journal.open();
+        for (PendingEntry entry : recovered) {
+            sessions.computeIfAbsent(entry.workoutLogId(), id -> new Session()).pending.add(entry);
+        }
+        if (!recovered.isEmpty()) {
+            log.info("Recovered {} buffered workout entries from {}", recovered.size(), path);
+            flushAll();
+        }
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled() && journal != null;
+    }
+
+    /**
+     * Target of an earlier set logged for the same workout log and exercise,
+     * which saves validating it again.
+     */
+    public Optional<WorkoutLogEntryTarget> knownTarget(UUID workoutLogId, UUID workoutExerciseId) {
+        ReentrantLock lock = stripe(workoutLogId);
+        lock.lock();
+        try {
+            Session session = sessions.get(workoutLogId);
+            return session != null ? Optional.ofNullable(session.targets.get(workoutExerciseId)) : Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Journal and buffer a validated set. If the journal cannot be written the
+     * set is inserted right away instead. A set whose client entry ID is
+     * already pending for the log is not buffered again.
+     *
+     * @return The pending set with the same client entry ID, or {@code entry} itself
+     * @throws BadRequestException if the workout log was closed since the set was validated
+     */
+    public PendingEntry append(PendingEntry entry, WorkoutLogEntryTarget target) {
+        ReentrantLock lock = stripe(entry.workoutLogId());
+        lock.lock();
+        try {
+            if (closedAt.containsKey(entry.workoutLogId())) {
+                throw new BadRequestException("Cannot add entries to a completed workout");
+            }
+            Session session = sessions.get(entry.workoutLogId());
+            if (session != null && entry.clientEntryId() != null) {
+                for (PendingEntry pending : session.pending) {
+                    if (entry.clientEntryId().equals(pending.clientEntryId())) {
+                        return pending;
+                    }
+                }
+            }
+
+            try {
+                journal.append(entry);
+            } catch (IOException e) {
+                log.warn("Could not journal workout entry {}, writing it directly: {}", entry.id(), e.getMessage());
+                insert(List.of(entry));
+                return entry;
+            }
+
+            session = sessions.computeIfAbsent(entry.workoutLogId(), id -> new Session());
+            session.pending.add(entry);
+            session.targets.put(entry.workoutExerciseId(), target);
+            session.lastAppendAt = Instant.now();
+
+            if (session.pending.size() >= settings.getFlushThreshold()) {
+                try {
+                    flush(session);
+                } catch (RuntimeException e) {
+                    log.warn("Could not flush workout log {}, keeping {} entries buffered: {}",
+                            entry.workoutLogId(), session.pending.size(), e.getMessage());
+                }
+            }
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write the pending sets of one workout log, so reads of that log see them.
+     */
+    public void flush(UUID workoutLogId) {
+        if (!sessions.containsKey(workoutLogId)) {
+            return;
+        }
+        ReentrantLock lock = stripe(workoutLogId);
+        lock.lock();
+        try {
+            Session session = sessions.get(workoutLogId);
+            if (session != null) {
+                flush(session);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write the pending sets of a workout log that is being completed and forget
+     * it; later sets for the log are rejected.
+     */
+    public void close(UUID workoutLogId) {
+        if (!isEnabled() && !sessions.containsKey(workoutLogId)) {
+            return;
+        }
+        ReentrantLock lock = stripe(workoutLogId);
+        lock.lock();
+        try {
+            if (isEnabled()) {
+                closedAt.put(workoutLogId, Instant.now());
+            }
+            Session session = sessions.get(workoutLogId);
+            if (session != null) {
+                flush(session);
+                sessions.remove(workoutLogId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write all pending sets, then drop written sets from the journal.
+     */
+    @Scheduled(initialDelayString = "${workout.write-behind.flush-interval:PT5S}",
+            fixedDelayString = "${workout.write-behind.flush-interval:PT5S}")
+    public void flushAll() {
+        if (journal == null) {
+            return;
+        }
+
+        Instant idleSince = Instant.now().minus(IDLE_SESSION);
+        int failed = 0;
+        for (UUID workoutLogId : List.copyOf(sessions.keySet())) {
+            ReentrantLock lock = stripe(workoutLogId);
+            lock.lock();
+            try {
+                Session session = sessions.get(workoutLogId);
+                if (session == null) {
+                    continue;
+                }
+                flush(session);
+                if (session.lastAppendAt.isBefore(idleSince)) {
+                    sessions.remove(workoutLogId);
+                }
+            } catch (RuntimeException e) {
+                failed++;
+                log.debug("Could not flush workout log {}: {}", workoutLogId, e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (failed > 0) {
+            log.warn("Could not flush {} workout logs; their entries stay buffered and journaled", failed);
+        }
+        // By now no request validated before the close can still be appending
+        closedAt.values().removeIf(closed -> closed.isBefore(idleSince));
+
+        compactJournal();
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        flushAll();
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Rewrite the journal with only the sets still pending. All stripes are held,
+     * so no set can be appended between collecting and rewriting.
+     */
+    private void compactJournal() {
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+        try {
+            List<PendingEntry> pending = new ArrayList<>();
+            sessions.values().forEach(session -> pending.addAll(session.pending));
+            if (journal.isFailed() || pending.size() != journal.entryCount()) {
+                journal.rewrite(pending);
+            }
+        } catch (IOException e) {
+            log.warn("Could not compact workout entry journal {}: {}", journal.getPath(), e.getMessage());
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Must be called with the session's stripe held; pending sets stay buffered if the write fails.
+     */
+    private void flush(Session session) {
+        if (session.pending.isEmpty()) {
+            return;
+        }
+        insert(List.copyOf(session.pending));
+        session.pending.clear();
+    }
+
+    private void insert(List<PendingEntry> entries) {
+        transactionTemplate.executeWithoutResult(status -> entryRepository.insertAll(entries));
+    }
+
+    private ReentrantLock stripe(UUID workoutLogId) {
+        return stripes[Math.floorMod(workoutLogId.hashCode(), stripes.length)];
+    }
+
+    /**
+     * Buffered state of one in-progress workout log, guarded by its stripe.
+     */
+    private static final class Session {
+
+        private final List<PendingEntry> pending = new ArrayList<>();
+        private final Map<UUID, WorkoutLogEntryTarget> targets = new HashMap<>();
+        private Instant lastAppendAt = Instant.now();
+    }
+}
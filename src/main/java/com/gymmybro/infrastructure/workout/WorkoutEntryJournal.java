@@ -0,0 +1,369 @@
+package com.gymmybro.infrastructure.workout;
+
+import com.gymmybro.domain.workout.WorkoutLogEntryRepositoryCustom.PendingEntry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of buffered workout log entries, replayed after a crash.
+ *
+ * <p>Layout (big-endian):
+ * <pre>
+ * int   magic          'GBWJ'
+ * int   formatVersion
+ * then per entry:
+ * int   payloadLength
+ * long  payloadCrc32
+ * ...   payload: id, workout log ID, workout exercise ID, set number,
+ *       reps, weight, duration, RPE, notes, client entry ID (since format 2)
+ * </pre>
+ * UUIDs are two longs; nullable values are a presence byte followed by the
+ * value; strings are an int byte length (-1 for null) followed by UTF-8 bytes.
+ * Journals in an older format are read and rewritten in the current one.
+ * Reading stops at the first torn or corrupt entry, which is cut off before
+ * new entries are appended. Flushed entries are dropped by rewriting the file
+ * with the entries still pending.
+ *
+ * <p>Appends are group committed: writers only serialize to copy their frame
+ * into the file, and one fsync covers every frame written while the previous
+ * one ran. A frame whose write or fsync fails is truncated away; after a
+ * failed fsync the journal refuses appends until it is next rewritten.
+ */
+@Slf4j
+final class WorkoutEntryJournal implements AutoCloseable {
+
+    private static final int MAGIC = 0x4742574A;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 4;
+    private static final int FRAME_BYTES = 4 + 8;
+
+    private final Path path;
+    private final boolean fsync;
+    private final Object syncLock = new Object();
+    private FileChannel channel;
+    private int entryCount;
+    private long size;
+    private long syncedSize;
+    private int syncedCount;
+    private boolean failed;
+
+    WorkoutEntryJournal(Path path, boolean fsync) {
+        this.path = path;
+        this.fsync = fsync;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Read the entries left in the journal and open it for appending.
+     *
+     * @return Entries that were journaled but not yet flushed
+     */
+    synchronized List<PendingEntry> open() throws IOException {
+        List<PendingEntry> entries = new ArrayList<>();
+        boolean intact = read(entries);
+
+        if (intact) {
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            reset(entries.size());
+        } else {
+            rewrite(entries);
+        }
+        return entries;
+    }
+
+    /**
+     * Append one entry; when fsync is enabled, return once it is on disk.
+     * On failure the entry is not in the journal.
+     */
+    void append(PendingEntry entry) throws IOException {
+        ByteBuffer frame = encode(entry);
+        long end;
+        synchronized (this) {
+            if (failed) {
+                throw new IOException("Journal " + path + " is unavailable until it is rewritten");
+            }
+            long start = size;
+            try {
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+            } catch (IOException e) {
+                truncate(start, e);
+                throw e;
+            }
+            size = start + frame.limit();
+            entryCount++;
+            end = size;
+        }
+        if (fsync) {
+            awaitSynced(end);
+        }
+    }
+
+    /**
+     * Wait until the journal is on disk up to {@code end}, forcing it unless
+     * a concurrent force already covers it.
+     */
+    private void awaitSynced(long end) throws IOException {
+        synchronized (syncLock) {
+            long target;
+            int targetCount;
+            synchronized (this) {
+                if (syncedSize >= end) {
+                    return;
+                }
+                if (failed) {
+                    throw new IOException("Journal " + path + " could not be forced to disk");
+                }
+                target = size;
+                targetCount = entryCount;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                synchronized (this) {
+                    // Frames written after the last good force may not be on disk
+                    failed = true;
+                    truncate(syncedSize, e);
+                    size = syncedSize;
+                    entryCount = syncedCount;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                syncedSize = target;
+                syncedCount = targetCount;
+            }
+        }
+    }
+
+    private void truncate(long length, IOException cause) {
+        try {
+            channel.truncate(length);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            failed = true;
+        }
+    }
+
+    /**
+     * Replace the journal with the given entries, so a reader never sees a
+     * partially written file.
+     */
+    synchronized void rewrite(Collection<PendingEntry> entries) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+                while (header.hasRemaining()) {
+                    out.write(header);
+                }
+                for (PendingEntry entry : entries) {
+                    ByteBuffer frame = encode(entry);
+                    while (frame.hasRemaining()) {
+                        out.write(frame);
+                    }
+                }
+                out.force(true);
+            }
+            if (channel != null) {
+                channel.close();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        reset(entries.size());
+    }
+
+    private void reset(int entries) throws IOException {
+        entryCount = entries;
+        size = channel.size();
+        syncedSize = size;
+        syncedCount = entries;
+        failed = false;
+    }
+
+    /**
+     * Whether appends are refused until the journal is rewritten.
+     */
+    synchronized boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Entries in the journal, flushed or not.
+     */
+    synchronized int entryCount() {
+        return entryCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Collect the readable entries.
+     *
+     * @return Whether the whole file was readable and can be appended to as is
+     */
+    private boolean read(List<PendingEntry> entries) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            log.warn("Ignoring workout entry journal {} with unknown format", path);
+            return false;
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion < 1 || formatVersion > FORMAT_VERSION) {
+            log.warn("Ignoring workout entry journal {} with format {}", path, formatVersion);
+            return false;
+        }
+
+        while (buffer.remaining() >= FRAME_BYTES) {
+            int length = buffer.getInt();
+            long payloadCrc = buffer.getLong();
+            if (length < 0 || length > buffer.remaining()) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(buffer.position(), length);
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if (crc.getValue() != payloadCrc) {
+                break;
+            }
+            try {
+                entries.add(decode(payload, formatVersion));
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                break;
+            }
+            buffer.position(buffer.position() + length);
+        }
+
+        if (buffer.hasRemaining()) {
+            log.warn("Workout entry journal {} ends with {} unreadable bytes; recovered {} entries",
+                    path, buffer.remaining(), entries.size());
+            return false;
+        }
+        return formatVersion == FORMAT_VERSION;
+    }
+
+    private static ByteBuffer encode(PendingEntry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream payload = new DataOutputStream(bytes);
+        writeUuid(payload, entry.id());
+        writeUuid(payload, entry.workoutLogId());
+        writeUuid(payload, entry.workoutExerciseId());
+        payload.writeInt(entry.setNumber());
+        writeInteger(payload, entry.actualReps());
+        payload.writeBoolean(entry.actualWeight() != null);
+        if (entry.actualWeight() != null) {
+            payload.writeDouble(entry.actualWeight());
+        }
+        writeInteger(payload, entry.actualDurationSeconds());
+        writeInteger(payload, entry.rpe());
+        writeString(payload, entry.notes());
+        payload.writeBoolean(entry.clientEntryId() != null);
+        if (entry.clientEntryId() != null) {
+            writeUuid(payload, entry.clientEntryId());
+        }
+        payload.flush();
+
+        byte[] body = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return ByteBuffer.allocate(FRAME_BYTES + body.length)
+                .putInt(body.length)
+                .putLong(crc.getValue())
+                .put(body)
+                .flip();
+    }
+
+    private static PendingEntry decode(ByteBuffer in, int formatVersion) {
+        UUID id = readUuid(in);
+        UUID workoutLogId = readUuid(in);
+        UUID workoutExerciseId = readUuid(in);
+        int setNumber = in.getInt();
+        Integer reps = readInteger(in);
+        Double weight = in.get() != 0 ? in.getDouble() : null;
+        Integer duration = readInteger(in);
+        Integer rpe = readInteger(in);
+        String notes = readString(in);
+        UUID clientEntryId = formatVersion >= 2 && in.get() != 0 ? readUuid(in) : null;
+        return new PendingEntry(id, workoutLogId, workoutExerciseId, setNumber, reps, weight, duration, rpe, notes,
+                clientEntryId);
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(ByteBuffer in) {
+        return in.get() != 0 ? in.getInt() : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("corrupt string length " + length);
+        }
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -1,22 +1,41 @@
 package com.gymmybro.presentation.controller;
 
+import com.gymmybro.application.dto.request.ExerciseBatchRequest;
+import com.gymmybro.application.dto.request.ExerciseFacetQuery;
+import com.gymmybro.application.dto.response.ExerciseBatchResponse;
+import com.gymmybro.application.dto.response.ExerciseFacetSearchResponse;
 import com.gymmybro.application.dto.response.ExerciseResponse;
+import com.gymmybro.application.dto.response.ExerciseSubstituteResponse;
+import com.gymmybro.application.dto.response.ExerciseSyncResponse;
 import com.gymmybro.application.dto.response.PaginatedResponse;
 import com.gymmybro.application.service.ExerciseService;
+import com.gymmybro.infrastructure.catalog.ExerciseMetadataDocuments.Document;
+import com.gymmybro.infrastructure.catalog.ExerciseMetadataDocuments.MetadataList;
+import com.gymmybro.infrastructure.media.ExerciseMediaFile;
+import com.gymmybro.infrastructure.media.ExerciseMediaResponder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 
 /**
  * REST controller for exercise catalog operations.
- * Proxies all requests to ExerciseDB RapidAPI.
+ * Handlers return Monos, so no servlet thread waits on ExerciseDB. The media
+ * endpoint writes the file to the response itself, once it has been resolved
+ * and cached.
  */
 @RestController
 @RequestMapping("/api/v1/exercises")
@@ -26,20 +45,23 @@ import java.util.List;
 public class ExerciseController {
 
         private final ExerciseService exerciseService;
+        private final ExerciseMediaResponder exerciseMediaResponder;
 
         /**
          * Search and list exercises from ExerciseDB.
          */
         @GetMapping
-        @Operation(summary = "List exercises", description = "Get exercises from ExerciseDB with optional name search.", responses = {
+        @Operation(summary = "List exercises", description = "Get exercises with optional name search. "
+                        + "Returns exact totals and a nextCursor for fetching the following page.", responses = {
                         @ApiResponse(responseCode = "200", description = "Exercises retrieved successfully")
         })
-        public ResponseEntity<PaginatedResponse<ExerciseResponse>> getExercises(
+        public Mono<ResponseEntity<PaginatedResponse<ExerciseResponse>>> getExercises(
                         @Parameter(description = "Search by name") @RequestParam(required = false) String name,
                         @Parameter(description = "Number of results (max 1000)") @RequestParam(defaultValue = "20") int limit,
-                        @Parameter(description = "Starting position") @RequestParam(defaultValue = "0") int offset) {
+                        @Parameter(description = "Starting position") @RequestParam(defaultValue = "0") int offset,
+                        @Parameter(description = "Cursor from a previous page's nextCursor; overrides offset") @RequestParam(required = false) String cursor) {
 
-                return ResponseEntity.ok(exerciseService.searchExercises(name, limit, offset));
+                return exerciseService.searchExercises(name, limit, offset, cursor).map(ResponseEntity::ok);
         }
 
         /**
@@ -50,9 +72,63 @@ public class ExerciseController {
                         @ApiResponse(responseCode = "200", description = "Exercise retrieved successfully"),
                         @ApiResponse(responseCode = "404", description = "Exercise not found")
         })
-        public ResponseEntity<ExerciseResponse> getExerciseById(
+        public Mono<ResponseEntity<ExerciseResponse>> getExerciseById(
                         @Parameter(description = "ExerciseDB ID (e.g., '0001')") @PathVariable String externalId) {
-                return ResponseEntity.ok(exerciseService.getExerciseById(externalId));
+                return exerciseService.getExerciseById(externalId).map(ResponseEntity::ok);
+        }
+
+        /**
+         * Get an exercise's GIF or image through the local media cache.
+         */
+        @GetMapping("/{externalId}/media")
+        @Operation(summary = "Get exercise media", description = "GIF or image of an exercise, fetched once from the media host and served from local disk. Supports Range and If-None-Match.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Media file"),
+                        @ApiResponse(responseCode = "206", description = "Requested byte range"),
+                        @ApiResponse(responseCode = "304", description = "Client copy is current"),
+                        @ApiResponse(responseCode = "404", description = "Exercise or media not found")
+        })
+        public Mono<Void> getExerciseMedia(
+                        @Parameter(description = "ExerciseDB ID (e.g., '0001')") @PathVariable String externalId,
+                        HttpServletRequest request, HttpServletResponse response) {
+                // Written off the event loop once the file is on disk; the request thread is already released
+                return exerciseService.getExerciseMedia(externalId)
+                                .publishOn(Schedulers.boundedElastic())
+                                .flatMap(media -> Mono.fromCallable(() -> {
+                                        exerciseMediaResponder.write(media, request, response);
+                                        return media;
+                                }))
+                                .then();
+        }
+
+        /**
+         * Suggest alternatives for an exercise.
+         */
+        @GetMapping("/{externalId}/substitutes")
+        @Operation(summary = "Get exercise substitutes", description = "Exercises most similar by target muscles, secondary muscles, body parts and equipment. "
+                        + "Use excludeEquipment to leave out equipment the gym does not have.", responses = {
+                                        @ApiResponse(responseCode = "200", description = "Substitutes, most similar first"),
+                                        @ApiResponse(responseCode = "404", description = "Exercise not found"),
+                                        @ApiResponse(responseCode = "503", description = "Exercise catalog is not loaded yet")
+                        })
+        public Mono<ResponseEntity<List<ExerciseSubstituteResponse>>> getSubstitutes(
+                        @Parameter(description = "ExerciseDB ID (e.g., '0001')") @PathVariable String externalId,
+                        @Parameter(description = "Maximum number of substitutes (max 50)") @RequestParam(defaultValue = "10") int limit,
+                        @Parameter(description = "Equipment to exclude (e.g., 'barbell')") @RequestParam(required = false) List<String> excludeEquipment) {
+                return exerciseService.getSubstitutes(externalId, limit, excludeEquipment).map(ResponseEntity::ok);
+        }
+
+        /**
+         * Get several exercises by ExerciseDB ID.
+         */
+        @PostMapping("/batch")
+        @Operation(summary = "Get exercises by IDs", description = "Resolve up to 200 ExerciseDB IDs in one request. "
+                        + "Results keep request order; unknown IDs are listed in 'missing'.", responses = {
+                                        @ApiResponse(responseCode = "200", description = "Exercises retrieved successfully"),
+                                        @ApiResponse(responseCode = "400", description = "Invalid ID list")
+                        })
+        public Mono<ResponseEntity<ExerciseBatchResponse>> getExercisesByIds(
+                        @Valid @RequestBody ExerciseBatchRequest request) {
+                return exerciseService.getExercisesByIds(request.getExternalIds()).map(ResponseEntity::ok);
         }
 
         /**
@@ -62,9 +138,9 @@ public class ExerciseController {
         @Operation(summary = "Filter by body part", description = "Get exercises targeting a specific body part.", responses = {
                         @ApiResponse(responseCode = "200", description = "Exercises retrieved successfully")
         })
-        public ResponseEntity<List<ExerciseResponse>> filterByBodyPart(
+        public Mono<ResponseEntity<List<ExerciseResponse>>> filterByBodyPart(
                         @Parameter(description = "Body part (e.g., 'chest', 'back')") @PathVariable String bodyPart) {
-                return ResponseEntity.ok(exerciseService.filterByBodyPart(bodyPart));
+                return exerciseService.filterByBodyPart(bodyPart).map(ResponseEntity::ok);
         }
 
         /**
@@ -74,9 +150,9 @@ public class ExerciseController {
         @Operation(summary = "Filter by target muscle", description = "Get exercises targeting a specific muscle.", responses = {
                         @ApiResponse(responseCode = "200", description = "Exercises retrieved successfully")
         })
-        public ResponseEntity<List<ExerciseResponse>> filterByTarget(
+        public Mono<ResponseEntity<List<ExerciseResponse>>> filterByTarget(
                         @Parameter(description = "Target muscle (e.g., 'biceps', 'pectorals')") @PathVariable String target) {
-                return ResponseEntity.ok(exerciseService.filterByTarget(target));
+                return exerciseService.filterByTarget(target).map(ResponseEntity::ok);
         }
 
         /**
@@ -86,9 +162,49 @@ public class ExerciseController {
         @Operation(summary = "Filter by equipment", description = "Get exercises using specific equipment.", responses = {
                         @ApiResponse(responseCode = "200", description = "Exercises retrieved successfully")
         })
-        public ResponseEntity<List<ExerciseResponse>> filterByEquipment(
+        public Mono<ResponseEntity<List<ExerciseResponse>>> filterByEquipment(
                         @Parameter(description = "Equipment (e.g., 'barbell', 'dumbbell')") @PathVariable String equipment) {
-                return ResponseEntity.ok(exerciseService.filterByEquipment(equipment));
+                return exerciseService.filterByEquipment(equipment).map(ResponseEntity::ok);
+        }
+
+        /**
+         * Filter exercises by several facets at once.
+         */
+        @GetMapping("/filter")
+        @Operation(summary = "Filter by multiple facets", description = "Combine body parts, target muscles and equipment in one query. "
+                        + "Values of the same facet are OR'ed; facets are AND'ed unless matchAll=false. "
+                        + "Returns per-value counts over the full match set.", responses = {
+                                        @ApiResponse(responseCode = "200", description = "Exercises retrieved successfully"),
+                                        @ApiResponse(responseCode = "503", description = "Exercise catalog is still loading")
+                        })
+        public Mono<ResponseEntity<ExerciseFacetSearchResponse>> filterByFacets(
+                        @Parameter(description = "Body parts (e.g., 'chest')") @RequestParam(required = false) List<String> bodyPart,
+                        @Parameter(description = "Target muscles (e.g., 'pectorals')") @RequestParam(required = false) List<String> target,
+                        @Parameter(description = "Equipment (e.g., 'dumbbell')") @RequestParam(required = false) List<String> equipment,
+                        @Parameter(description = "Require every facet to match (AND) instead of any (OR)") @RequestParam(defaultValue = "true") boolean matchAll,
+                        @Parameter(description = "Number of results") @RequestParam(defaultValue = "20") int limit,
+                        @Parameter(description = "Starting position") @RequestParam(defaultValue = "0") int offset) {
+
+                ExerciseFacetQuery query = ExerciseFacetQuery.builder()
+                                .bodyParts(bodyPart)
+                                .targets(target)
+                                .equipment(equipment)
+                                .matchAll(matchAll)
+                                .build();
+                return exerciseService.filterByFacets(query, limit, offset).map(ResponseEntity::ok);
+        }
+
+        /**
+         * Sync the local exercise catalog with ExerciseDB (admin only).
+         */
+        @PostMapping("/ingest")
+        @Operation(summary = "Sync exercise catalog", description = "Page through ExerciseDB and apply changes to the stored catalog. "
+                        + "Unchanged exercises are skipped by content hash.", responses = {
+                                        @ApiResponse(responseCode = "200", description = "Catalog synced"),
+                                        @ApiResponse(responseCode = "409", description = "A sync is already running")
+                        })
+        public Mono<ResponseEntity<ExerciseSyncResponse>> syncCatalog() {
+                return exerciseService.syncCatalog().map(ResponseEntity::ok);
         }
 
         /**
@@ -96,10 +212,11 @@ public class ExerciseController {
          */
         @GetMapping("/metadata/body-parts")
         @Operation(summary = "Get body parts", description = "Get list of all body parts available in ExerciseDB.", responses = {
-                        @ApiResponse(responseCode = "200", description = "Body parts retrieved")
+                        @ApiResponse(responseCode = "200", description = "Body parts retrieved"),
+                        @ApiResponse(responseCode = "304", description = "Client copy is current (If-None-Match)")
         })
-        public ResponseEntity<List<String>> getBodyParts() {
-                return ResponseEntity.ok(exerciseService.getAllBodyParts());
+        public Mono<ResponseEntity<byte[]>> getBodyParts() {
+                return exerciseService.getMetadata(MetadataList.BODY_PARTS).map(this::toJson);
         }
 
         /**
@@ -107,18 +224,12 @@ public class ExerciseController {
          */
         @GetMapping("/metadata/categories")
         @Operation(summary = "Get categories", description = "Get list of all exercise categories (mapped to body parts).", responses = {
-                        @ApiResponse(responseCode = "200", description = "Categories retrieved")
+                        @ApiResponse(responseCode = "200", description = "Categories retrieved"),
+                        @ApiResponse(responseCode = "304", description = "Client copy is current (If-None-Match)")
         })
-        public ResponseEntity<List<String>> getCategories(
+        public Mono<ResponseEntity<byte[]>> getCategories(
                         @Parameter(description = "Search query") @RequestParam(required = false, name = "q") String query) {
-                List<String> categories = exerciseService.getAllBodyParts();
-                if (query != null && !query.isBlank()) {
-                        String lowerQuery = query.toLowerCase();
-                        categories = categories.stream()
-                                        .filter(c -> c.toLowerCase().contains(lowerQuery))
-                                        .toList();
-                }
-                return ResponseEntity.ok(categories);
+                return exerciseService.getCategories(query).map(this::toJson);
         }
 
         /**
@@ -126,10 +237,11 @@ public class ExerciseController {
          */
         @GetMapping("/metadata/targets")
         @Operation(summary = "Get target muscles", description = "Get list of all target muscles available in ExerciseDB.", responses = {
-                        @ApiResponse(responseCode = "200", description = "Target muscles retrieved")
+                        @ApiResponse(responseCode = "200", description = "Target muscles retrieved"),
+                        @ApiResponse(responseCode = "304", description = "Client copy is current (If-None-Match)")
         })
-        public ResponseEntity<List<String>> getTargetMuscles() {
-                return ResponseEntity.ok(exerciseService.getAllTargetMuscles());
+        public Mono<ResponseEntity<byte[]>> getTargetMuscles() {
+                return exerciseService.getMetadata(MetadataList.TARGETS).map(this::toJson);
         }
 
         /**
@@ -137,9 +249,23 @@ public class ExerciseController {
          */
         @GetMapping("/metadata/equipment")
         @Operation(summary = "Get equipment types", description = "Get list of all equipment types available in ExerciseDB.", responses = {
-                        @ApiResponse(responseCode = "200", description = "Equipment types retrieved")
+                        @ApiResponse(responseCode = "200", description = "Equipment types retrieved"),
+                        @ApiResponse(responseCode = "304", description = "Client copy is current (If-None-Match)")
         })
-        public ResponseEntity<List<String>> getEquipment() {
-                return ResponseEntity.ok(exerciseService.getAllEquipment());
+        public Mono<ResponseEntity<byte[]>> getEquipment() {
+                return exerciseService.getMetadata(MetadataList.EQUIPMENT).map(this::toJson);
+        }
+
+        /**
+         * Pre-serialized JSON with its ETag. Spring answers a matching
+         * If-None-Match with 304; no-cache (instead of the default no-store)
+         * lets clients keep the list and revalidate it.
+         */
+        private ResponseEntity<byte[]> toJson(Document document) {
+                return ResponseEntity.ok()
+                                .eTag(document.etag())
+                                .cacheControl(CacheControl.noCache().cachePublic())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(document.body());
         }
 }
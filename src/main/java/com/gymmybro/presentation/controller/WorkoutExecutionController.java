@@ -1,8 +1,10 @@
 package com.gymmybro.presentation.controller;
 
 import com.gymmybro.application.dto.request.CompleteWorkoutRequest;
+import com.gymmybro.application.dto.request.LogExerciseEntriesRequest;
 import com.gymmybro.application.dto.request.LogExerciseEntryRequest;
 import com.gymmybro.application.dto.request.StartWorkoutRequest;
+import com.gymmybro.application.dto.request.SyncWorkoutRequest;
 import com.gymmybro.application.dto.response.*;
 import com.gymmybro.application.service.WorkoutExecutionService;
 import com.gymmybro.domain.user.User;
@@ -21,6 +23,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -56,6 +59,17 @@ public class WorkoutExecutionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/logs/sync")
+    @PreAuthorize("hasRole('TRAINEE')")
+    @Operation(summary = "Sync offline workout", description = "Upload a whole workout session recorded offline, merging it with any workout already logged for that date")
+    public ResponseEntity<WorkoutLogResponse> syncWorkout(
+            @Valid @RequestBody SyncWorkoutRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        WorkoutLogResponse response = workoutExecutionService.syncWorkout(
+                currentUser.getId(), request, currentUser);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/logs/{logId}/entries")
     @PreAuthorize("hasRole('TRAINEE')")
     @Operation(summary = "Log exercise entry", description = "Log a set/entry for an exercise within an ongoing workout")
@@ -67,6 +81,17 @@ public class WorkoutExecutionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/logs/{logId}/entries/batch")
+    @PreAuthorize("hasRole('TRAINEE')")
+    @Operation(summary = "Log exercise entries", description = "Log several sets/entries within an ongoing workout in one request")
+    @ApiResponse(responseCode = "201", description = "Exercise entries logged")
+    public ResponseEntity<List<WorkoutLogEntryResponse>> logExerciseEntries(
+            @Parameter(description = "Workout log ID") @PathVariable UUID logId,
+            @Valid @RequestBody LogExerciseEntriesRequest request) {
+        List<WorkoutLogEntryResponse> response = workoutExecutionService.logExerciseEntries(logId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @PatchMapping("/logs/{logId}/complete")
     @PreAuthorize("hasRole('TRAINEE')")
     @Operation(summary = "Complete workout", description = "Mark an ongoing workout as completed")
@@ -0,0 +1,25 @@
+-- Flyway Migration V2: Exercise Catalog
+-- Local copy of the ExerciseDB catalog, kept in sync by delta upserts
+
+-- EXERCISES
+CREATE TABLE exercises (
+    external_id VARCHAR(100) PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    image_url VARCHAR(500),
+    exercise_type VARCHAR(50),
+    body_parts TEXT[] NOT NULL DEFAULT '{}',
+    target_muscles TEXT[] NOT NULL DEFAULT '{}',
+    equipments TEXT[] NOT NULL DEFAULT '{}',
+    secondary_muscles TEXT[] NOT NULL DEFAULT '{}',
+    instructions TEXT[] NOT NULL DEFAULT '{}',
+    -- SHA-256 of the upstream record; unchanged rows are skipped on sync
+    content_hash VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Facet lookups (e.g. body_parts @> ARRAY['chest'])
+CREATE INDEX idx_exercises_body_parts ON exercises USING GIN (body_parts);
+CREATE INDEX idx_exercises_target_muscles ON exercises USING GIN (target_muscles);
+CREATE INDEX idx_exercises_equipments ON exercises USING GIN (equipments);
+CREATE INDEX idx_exercises_name ON exercises(lower(name));
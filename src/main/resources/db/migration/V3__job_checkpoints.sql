@@ -0,0 +1,11 @@
+-- Flyway Migration V3: Job Checkpoints
+-- Progress of resumable background jobs
+
+CREATE TABLE job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    position VARCHAR(255),
+    run_started_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    rows_updated BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
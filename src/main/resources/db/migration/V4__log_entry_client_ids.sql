@@ -0,0 +1,7 @@
+-- Flyway Migration V4: Idempotent Set Logging
+-- Client-generated key per logged set, so retried requests do not create duplicates
+
+ALTER TABLE workout_log_entries ADD COLUMN client_entry_id UUID;
+
+ALTER TABLE workout_log_entries
+    ADD CONSTRAINT uk_log_entries_client_entry UNIQUE (workout_log_id, client_entry_id);
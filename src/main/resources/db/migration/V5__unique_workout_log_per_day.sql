@@ -0,0 +1,34 @@
+-- Flyway Migration V5: One Workout Log per Trainee and Date
+-- Concurrent syncs could create two logs for the same day; fold any such
+-- duplicates into the earliest log before enforcing uniqueness
+
+CREATE TEMPORARY TABLE duplicate_workout_logs ON COMMIT DROP AS
+SELECT id, keep_id
+FROM (
+    SELECT id,
+           FIRST_VALUE(id) OVER (PARTITION BY trainee_id, workout_date ORDER BY created_at, id) AS keep_id
+    FROM workout_logs
+) ranked
+WHERE id <> keep_id;
+
+-- Sets the kept log already has (same client entry ID) are dropped, the rest are moved over
+DELETE FROM workout_log_entries e
+USING duplicate_workout_logs d
+WHERE e.workout_log_id = d.id
+  AND e.client_entry_id IS NOT NULL
+  AND EXISTS (
+      SELECT 1 FROM workout_log_entries kept
+      WHERE kept.workout_log_id = d.keep_id AND kept.client_entry_id = e.client_entry_id
+  );
+
+UPDATE workout_log_entries e
+SET workout_log_id = d.keep_id
+FROM duplicate_workout_logs d
+WHERE e.workout_log_id = d.id;
+
+DELETE FROM workout_logs l
+USING duplicate_workout_logs d
+WHERE l.id = d.id;
+
+ALTER TABLE workout_logs
+    ADD CONSTRAINT uk_workout_logs_trainee_date UNIQUE (trainee_id, workout_date);
@@ -0,0 +1,204 @@
+package com.gymmybro.application.service;
+
+import com.gymmybro.application.dto.request.LogExerciseEntryRequest;
+import com.gymmybro.config.WorkoutConfig;
+import com.gymmybro.domain.user.PersonalTrainer;
+import com.gymmybro.domain.user.Trainee;
+import com.gymmybro.domain.workout.WorkoutBlock;
+import com.gymmybro.domain.workout.WorkoutDay;
+import com.gymmybro.domain.workout.WorkoutExercise;
+import com.gymmybro.domain.workout.WorkoutLog;
+import com.gymmybro.domain.workout.WorkoutPlan;
+import com.gymmybro.infrastructure.workout.RecentWorkoutEntries;
+import com.gymmybro.infrastructure.workout.WorkoutEntryBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Logging a set must cost the same number of SQL statements however many sets
+ * the workout already has, i.e. the log's entries are never loaded.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Import({ WorkoutExecutionService.class, WorkoutEntryBuffer.class, RecentWorkoutEntries.class,
+        WorkoutConfig.class, WorkoutLogEntryStatementCountTest.StatementCounting.class })
+class WorkoutLogEntryStatementCountTest {
+
+    private static final int SETS = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private WorkoutExecutionService workoutExecutionService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UUID logId;
+    private UUID workoutExerciseId;
+
+    @BeforeEach
+    void setUp() {
+        PersonalTrainer trainer = entityManager.persist(PersonalTrainer.builder()
+                .email("pt@example.com")
+                .hashedPassword("hash")
+                .fullName("Trainer")
+                .build());
+        Trainee trainee = entityManager.persist(Trainee.builder()
+                .email("trainee@example.com")
+                .hashedPassword("hash")
+                .fullName("Trainee")
+                .personalTrainer(trainer)
+                .build());
+        WorkoutPlan plan = entityManager.persist(WorkoutPlan.builder()
+                .name("Strength")
+                .createdBy(trainer)
+                .build());
+        WorkoutDay day = entityManager.persist(WorkoutDay.builder()
+                .workoutPlan(plan)
+                .dayNumber(1)
+                .name("Push")
+                .build());
+        WorkoutBlock block = entityManager.persist(WorkoutBlock.builder()
+                .workoutDay(day)
+                .blockOrder(1)
+                .build());
+        WorkoutExercise exercise = entityManager.persist(WorkoutExercise.builder()
+                .workoutBlock(block)
+                .exerciseExternalId("0025")
+                .exerciseName("barbell bench press")
+                .exerciseOrder(1)
+                .sets(SETS)
+                .build());
+        WorkoutLog log = entityManager.persist(WorkoutLog.builder()
+                .trainee(trainee)
+                .workoutDay(day)
+                .workoutDate(LocalDate.now())
+                .startedAt(Instant.now())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        logId = log.getId();
+        workoutExerciseId = exercise.getId();
+    }
+
+    @Test
+    void loggingASetCostsTheSameStatementsForTheFirstAndTheLastSet() {
+        int first = statementsToLog(1);
+        for (int set = 2; set < SETS; set++) {
+            logSet(set);
+        }
+        int last = statementsToLog(SETS);
+
+        assertThat(first).isPositive();
+        assertThat(last).isEqualTo(first);
+    }
+
+    private int statementsToLog(int setNumber) {
+        entityManager.clear();
+        StatementCounting.STATEMENTS.set(0);
+        logSet(setNumber);
+        return StatementCounting.STATEMENTS.get();
+    }
+
+    private void logSet(int setNumber) {
+        workoutExecutionService.logExerciseEntry(logId, LogExerciseEntryRequest.builder()
+                .workoutExerciseId(workoutExerciseId)
+                .setNumber(setNumber)
+                .repsPerformed(8)
+                .weight(80.0)
+                .clientEntryId(UUID.randomUUID())
+                .build());
+    }
+
+    /**
+     * Counts every statement prepared on a connection of the application's data
+     * source, whether issued by Hibernate or by JdbcTemplate.
+     */
+    @TestConfiguration
+    static class StatementCounting {
+
+        static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+        private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "createStatement",
+                "prepareCall");
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+
+        private static final class CountingDataSource extends DelegatingDataSource {
+
+            private CountingDataSource(DataSource target) {
+                super(target);
+            }
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return counting(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return counting(super.getConnection(username, password));
+            }
+
+            private static Connection counting(Connection connection) {
+                return (Connection) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                        new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                            if (STATEMENT_METHODS.contains(method.getName())) {
+                                STATEMENTS.incrementAndGet();
+                            }
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        });
+            }
+        }
+    }
+}
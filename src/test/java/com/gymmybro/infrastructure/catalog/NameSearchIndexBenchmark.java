@@ -0,0 +1,109 @@
+package com.gymmybro.infrastructure.catalog;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of {@link NameSearchIndex} over a 1,500-exercise catalog.
+ *
+ * <p>Not part of the test run. Run it with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.gymmybro.infrastructure.catalog.NameSearchIndexBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchIndexBenchmark {
+
+    private static final String[] EQUIPMENT = {
+            "barbell", "dumbbell", "cable", "kettlebell", "band",
+            "smith machine", "lever", "body weight", "ez barbell", "weighted"
+    };
+    private static final String[] MOVEMENTS = {
+            "bench press", "squat", "deadlift", "row", "curl", "fly", "lunge", "shoulder press",
+            "pulldown", "triceps extension", "lateral raise", "shrug", "crunch", "pullover", "push-up"
+    };
+    private static final String[] VARIANTS = {
+            "", "incline", "decline", "close grip", "wide grip",
+            "single arm", "reverse grip", "seated", "standing", "alternating"
+    };
+    private static final String[] MUSCLES = {
+            "triceps", "shoulders", "forearms", "hamstrings", "glutes", "calves", "lower back", "biceps"
+    };
+
+    private NameSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = NameSearchIndex.build(fixture());
+    }
+
+    @Benchmark
+    public List<ExerciseDbApiResponse> exact() {
+        return index.search("barbell incline bench press");
+    }
+
+    @Benchmark
+    public List<ExerciseDbApiResponse> prefix() {
+        return index.search("dumbbell cu");
+    }
+
+    @Benchmark
+    public List<ExerciseDbApiResponse> typo() {
+        return index.search("benchpres");
+    }
+
+    @Benchmark
+    public List<ExerciseDbApiResponse> transposition() {
+        return index.search("sqaut");
+    }
+
+    /**
+     * Every equipment, movement and variant combination: 10 x 15 x 10 = 1,500 exercises.
+     */
+    static List<ExerciseDbApiResponse> fixture() {
+        List<ExerciseDbApiResponse> exercises = new ArrayList<>();
+        for (String equipment : EQUIPMENT) {
+            for (String movement : MOVEMENTS) {
+                for (String variant : VARIANTS) {
+                    int ordinal = exercises.size();
+                    String name = String.join(" ", equipment, variant, movement).replaceAll(" +", " ");
+                    exercises.add(ExerciseDbApiResponse.builder()
+                            .id(String.format("%04d", ordinal))
+                            .name(name)
+                            .equipments(List.of(equipment))
+                            .secondaryMuscles(List.of(MUSCLES[ordinal % MUSCLES.length],
+                                    MUSCLES[(ordinal / MUSCLES.length) % MUSCLES.length]))
+                            .build());
+                }
+            }
+        }
+        return exercises;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NameSearchIndexBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,224 @@
+package com.gymmybro.presentation.controller;
+
+import com.gymmybro.application.dto.response.ExerciseDbApiResponse;
+import com.gymmybro.application.dto.response.ExerciseResponse;
+import com.gymmybro.domain.user.Trainee;
+import com.gymmybro.domain.user.UserRole;
+import com.gymmybro.infrastructure.external.ExerciseDbClient;
+import com.gymmybro.infrastructure.external.ReactiveExerciseDbClient;
+import com.gymmybro.infrastructure.security.JwtService;
+import com.gymmybro.infrastructure.security.UserDetailsServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 500 concurrent single-exercise requests against an ExerciseDB that takes
+ * {@link #UPSTREAM_LATENCY} to answer, once through a handler that blocks on
+ * {@link ExerciseDbClient} (the behaviour before the reactive path) and once
+ * through {@code GET /api/v1/exercises/{id}}. Reports p99 latency, peak busy
+ * Tomcat workers and peak JVM threads for both, and checks that the reactive
+ * path does better on latency and worker threads.
+ *
+ * <p>The catalog is disabled so every request falls back to ExerciseDB, and
+ * each request asks for a different exercise so neither the response cache
+ * nor coalescing can absorb the load.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=load-test-access-secret-load-test-access-secret-0123456789",
+        "jwt.refresh-secret=load-test-refresh-secret-load-test-refresh-secret-0123456789",
+        "cloudinary.cloud-name=load-test",
+        "cloudinary.api-key=load-test",
+        "cloudinary.api-secret=load-test",
+        "exercisedb.catalog.enabled=false",
+        "exercisedb.warm-up.enabled=false",
+        "exercisedb.media.directory=target/load-test-media",
+        "server.tomcat.threads.max=200"
+})
+@Testcontainers
+@Import(ExerciseControllerLoadTest.BlockingExerciseController.class)
+class ExerciseControllerLoadTest {
+
+    private static final int CONCURRENCY = 500;
+    private static final int WARM_UP_REQUESTS = 50;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(200);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @MockBean
+    private ReactiveExerciseDbClient exerciseDb;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        when(exerciseDb.getExerciseById(anyString())).thenAnswer(invocation -> Mono.delay(UPSTREAM_LATENCY)
+                .thenReturn(ExerciseDbApiResponse.builder()
+                        .id(invocation.getArgument(0))
+                        .name("exercise " + invocation.getArgument(0))
+                        .build()));
+
+        // Authentication reads the user from the database; keep that out of the measurement
+        Trainee trainee = Trainee.builder()
+                .id(UUID.randomUUID())
+                .email("load-test@example.com")
+                .hashedPassword("hash")
+                .role(UserRole.TRAINEE)
+                .build();
+        when(userDetailsService.loadUserByUsername(trainee.getEmail())).thenReturn(trainee);
+        token = jwtService.generateAccessToken(trainee);
+    }
+
+    @Test
+    void reactivePathKeepsP99AndRequestThreadsDownUnder500ConcurrentRequests() {
+        run(BlockingExerciseController.PATH, "warm-blocking", WARM_UP_REQUESTS);
+        run("/api/v1/exercises/", "warm-reactive", WARM_UP_REQUESTS);
+
+        LoadResult before = run(BlockingExerciseController.PATH, "blocking", CONCURRENCY);
+        LoadResult after = run("/api/v1/exercises/", "reactive", CONCURRENCY);
+
+        log.info("{} concurrent requests, upstream latency {} ms", CONCURRENCY, UPSTREAM_LATENCY.toMillis());
+        log.info("before (blocking): {}", before);
+        log.info("after (reactive):  {}", after);
+
+        assertThat(after.p99()).isLessThan(before.p99());
+        assertThat(after.peakBusyWorkers()).isLessThan(before.peakBusyWorkers());
+    }
+
+    private LoadResult run(String path, String round, int requests) {
+        ThreadPoolExecutor workers = tomcatWorkers();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        AtomicInteger peakBusyWorkers = new AtomicInteger();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakBusyWorkers.accumulateAndGet(workers.getActiveCount(), Math::max),
+                0, 5, TimeUnit.MILLISECONDS);
+        try {
+            List<CompletableFuture<Long>> calls = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(
+                                "http://localhost:" + port + path + round + "-" + i))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .build();
+                long started = System.nanoTime();
+                calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .thenApply(response -> {
+                            assertThat(response.statusCode()).isEqualTo(200);
+                            return System.nanoTime() - started;
+                        }));
+            }
+
+            long[] latencies = calls.stream()
+                    .map(CompletableFuture::join)
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+            int p99 = (int) Math.ceil(latencies.length * 0.99) - 1;
+            return new LoadResult(Duration.ofNanos(latencies[p99]), peakBusyWorkers.get(),
+                    threads.getPeakThreadCount());
+        } finally {
+            sampler.shutdownNow();
+        }
+    }
+
+    private ThreadPoolExecutor tomcatWorkers() {
+        TomcatWebServer server = (TomcatWebServer) context.getWebServer();
+        return (ThreadPoolExecutor) server.getTomcat().getConnector().getProtocolHandler().getExecutor();
+    }
+
+    /**
+     * @param peakJvmThreads Includes the test's own HTTP client threads
+     */
+    private record LoadResult(Duration p99, int peakBusyWorkers, int peakJvmThreads) {
+
+        @Override
+        public String toString() {
+            return "p99=" + p99.toMillis() + " ms, peak busy Tomcat workers=" + peakBusyWorkers
+                    + ", peak JVM threads=" + peakJvmThreads;
+        }
+    }
+
+    /**
+     * The pre-reactive handler: holds its request thread until ExerciseDB answers.
+     */
+    @RestController
+    static class BlockingExerciseController {
+
+        static final String PATH = "/load-test/blocking/exercises/";
+
+        private final ExerciseDbClient exerciseDbClient;
+
+        BlockingExerciseController(ExerciseDbClient exerciseDbClient) {
+            this.exerciseDbClient = exerciseDbClient;
+        }
+
+        @GetMapping(PATH + "{externalId}")
+        ExerciseResponse getExerciseById(@PathVariable String externalId) {
+            return ExerciseResponse.fromApiResponse(exerciseDbClient.getExerciseById(externalId));
+        }
+    }
+}